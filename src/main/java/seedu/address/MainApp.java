@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -22,9 +23,12 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookBackups;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
+import seedu.address.storage.SnapshotAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,16 +61,43 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, userPrefs.isSaveInBackground(),
+                initBackups(userPrefs));
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        watchDataFile();
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}, in the format it asks for.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.isSaveAsSnapshot()) {
+            return new SnapshotAddressBookStorage(addressBookFilePath);
+        } else if (userPrefs.isSaveInSegments()) {
+            return new SegmentedAddressBookStorage(addressBookFilePath);
+        }
+        return new JsonAddressBookStorage(addressBookFilePath, userPrefs.isSaveToJournal());
+    }
+
+    /**
+     * Returns the {@code AddressBookBackups} of the data file in {@code userPrefs}, or null if no backups are to be
+     * kept.
+     */
+    private AddressBookBackups initBackups(ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.getBackupCount() <= 0) {
+            return null;
+        }
+        return new AddressBookBackups(AddressBookBackups.pathOf(userPrefs.getAddressBookFilePath()),
+                userPrefs.getBackupCount());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -93,6 +124,18 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Merges changes made to the data file outside the app, such as by a file-sync tool, into the model as they
+     * happen.
+     */
+    private void watchDataFile() {
+        try {
+            storage.watchAddressBookFile(addressBook -> Platform.runLater(() -> logic.mergeChangedFile(addressBook)));
+        } catch (IOException e) {
+            logger.warning("Could not watch data file for changes: " + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +220,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.stopWatchingAddressBookFile();
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -1,17 +1,45 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * Writes and reads files
+ * Writes and reads files.
+ * Files whose names end in {@code .gz} are written gzip-compressed. Compressed files are told apart from plain ones
+ * by their first bytes when read, whatever their names, so that either kind of file can be read from any path.
  */
 public class FileUtil {
 
+    public static final String GZIP_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    // The first two bytes of every gzip stream
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+    // Larger than the default buffer of 512 bytes, so that a compressed file is inflated in few large steps
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Represents a piece of work that writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -65,11 +93,40 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns true if {@code file} is written gzip-compressed, as told by its name ending in {@code .gz}.
+     */
+    public static boolean isGzipPath(Path file) {
+        return file.getFileName().toString().endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Returns a stream of the content of {@code file}, which is inflated as it is read if the file is
+     * gzip-compressed.
+     * Assumes file exists
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(Files.newInputStream(file), GZIP_MAGIC.length);
+        try {
+            byte[] start = in.readNBytes(GZIP_MAGIC.length);
+            in.unread(start);
+            if (start.length == GZIP_MAGIC.length && start[0] == GZIP_MAGIC[0] && start[1] == GZIP_MAGIC[1]) {
+                return new GZIPInputStream(in, GZIP_BUFFER_SIZE);
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
     /**
      * Assumes file exists
      */
     public static String readFromFile(Path file) throws IOException {
-        return new String(Files.readAllBytes(file), CHARSET);
+        try (InputStream in = newInputStream(file)) {
+            return new String(in.readAllBytes(), CHARSET);
+        }
     }
 
     /**
@@ -77,7 +134,57 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        if (!isGzipPath(file)) {
+            Files.write(file, content.getBytes(CHARSET));
+            return;
+        }
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file), GZIP_BUFFER_SIZE)) {
+            out.write(content.getBytes(CHARSET));
+        }
+    }
+
+    /**
+     * Writes the content {@code writer} writes to a file, creating the file and its missing parent directories if
+     * they do not exist yet.
+     * The content is written through a buffer to a temporary file next to {@code file}, which then replaces
+     * {@code file} in one step, so that {@code file} is never left holding part of its new content.
+     * The content is compressed as it is written if {@code file} is named as a gzip file.
+     *
+     * @throws IOException if the content could not be written, in which case {@code file} is left as it was.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                if (isGzipPath(file)) {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                    writer.writeTo(gzipOut);
+                    gzipOut.finish();
+                } else {
+                    writer.writeTo(out);
+                }
+                out.flush();
+                // The content must reach the disk before the rename does, or a crash could leave an empty file
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in one step where the file system allows it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
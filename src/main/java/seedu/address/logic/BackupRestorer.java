@@ -0,0 +1,96 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Lists the versions of the address book kept in backups by storage, or restores one of them into the model, as
+ * asked for by the result of a {@code RestoreCommand}, since commands do not reach storage themselves.
+ */
+public class BackupRestorer {
+
+    public static final String MESSAGE_LIST_VERSIONS = "Backed-up versions, newest first:\n%1$s";
+    public static final String MESSAGE_RESTORE_SUCCESS = "Restored the address book as it was on %1$s";
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups to restore";
+    public static final String MESSAGE_INVALID_VERSION_INDEX = "The version index provided is invalid";
+    public static final String MESSAGE_BACKUPS_NOT_READ = "Could not read backups due to the following error: %1$s";
+
+    private static final DateTimeFormatter VERSION_FORMATTER =
+            DateTimeFormatter.ofPattern("d MMM yyyy, HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final Storage storage;
+
+    /**
+     * Creates a {@code BackupRestorer} for the backups kept by {@code storage}.
+     */
+    public BackupRestorer(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Lists the versions kept, newest first, if {@code targetIndex} is empty, or otherwise restores the version at
+     * {@code targetIndex} of that list into {@code model}.
+     *
+     * @return feedback message of the operation result for display
+     * @throws CommandException if there are no backups, {@code targetIndex} is not in the list, or the backups could
+     *         not be read.
+     */
+    public CommandResult execute(Model model, Optional<Index> targetIndex) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(targetIndex);
+        try {
+            List<Long> versions = storage.readBackupVersions();
+            if (versions.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_BACKUPS);
+            }
+            if (targetIndex.isEmpty()) {
+                return new CommandResult(String.format(MESSAGE_LIST_VERSIONS, formatNewestFirst(versions)));
+            }
+            if (targetIndex.get().getZeroBased() >= versions.size()) {
+                throw new CommandException(MESSAGE_INVALID_VERSION_INDEX);
+            }
+
+            long version = versions.get(versions.size() - 1 - targetIndex.get().getZeroBased());
+            // The version may have been pruned since it was listed
+            Optional<ReadOnlyAddressBook> addressBook = storage.readBackup(version);
+            if (addressBook.isEmpty()) {
+                throw new CommandException(MESSAGE_INVALID_VERSION_INDEX);
+            }
+            model.setAddressBook(addressBook.get());
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(String.format(MESSAGE_RESTORE_SUCCESS, format(version)));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_BACKUPS_NOT_READ, e.getMessage()), e);
+        }
+    }
+
+    private static String formatNewestFirst(List<Long> versions) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = versions.size() - 1; i >= 0; i--) {
+            builder.append(versions.size() - i).append(". ").append(format(versions.get(i)));
+            if (i > 0) {
+                builder.append("\n");
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String format(long version) {
+        return VERSION_FORMATTER.format(Instant.ofEpochMilli(version));
+    }
+}
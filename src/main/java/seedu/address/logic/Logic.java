@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as one batch, and returns the result.
+     * Changes are shown and saved once, after the last command, and only if every command succeeds.
+     * @param commandTexts The commands, one per line, as they would be entered by the user.
+     * @return the result of the batch execution.
+     * @throws CommandException If any command could not be parsed or executed, or the changes could not be saved.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException;
+
+    /**
+     * Merges {@code addressBook}, read from the data file after it was changed outside the app, into the address
+     * book, and takes the merged address book as saved, as it matches the data file.
+     * Nothing is merged if the address book has changes not yet saved, or if the data file has been saved to, read
+     * or changed again since {@code addressBook} was read, so that an older file never replaces a newer change.
+     */
+    void mergeChangedFile(ReadOnlyAddressBook addressBook);
+
     /**
      * Returns the AddressBook.
      *
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,6 +11,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -27,11 +29,17 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_BATCH_SUCCESS = "Ran %1$d commands";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackupRestorer backupRestorer;
+
+    // Version of the address book when it was last saved, or loaded, so that it is only saved again once changed
+    private long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,6 +48,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        backupRestorer = new BackupRestorer(storage);
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -49,16 +59,53 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        if (commandResult.isBackupsRequested()) {
+            commandResult = backupRestorer.execute(model, commandResult.getBackupToRestore());
+        }
+
+        saveIfChanged();
+        return commandResult;
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException {
+        logger.info("----------------[USER BATCH][" + commandTexts.size() + " lines]");
+
+        int commandCount = RunCommand.runBatch(commandTexts, addressBookParser, model);
+        saveIfChanged();
+        return new CommandResult(String.format(MESSAGE_BATCH_SUCCESS, commandCount));
+    }
+
+    /**
+     * Saves the address book, unless it has not changed since it was last saved.
+     */
+    private void saveIfChanged() throws CommandException {
+        long version = model.getAddressBookVersion();
+        if (version == savedVersion) {
+            return;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
+            savedVersion = version;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void mergeChangedFile(ReadOnlyAddressBook addressBook) {
+        // A change saved since the file was read is caught by storage, and one not saved by the version
+        if (model.getAddressBookVersion() != savedVersion || !storage.isLatestReload(addressBook)) {
+            logger.info("Not merging the changed data file, as the address book has changed since it was read");
+            return;
+        }
+        model.mergeAddressBook(addressBook);
+        storage.rememberMerged(addressBook, model.getAddressBook());
+        // Saving the merged address book would only write back what was just read
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -8,6 +8,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -40,6 +41,7 @@ public class AddSessionCommand extends Command {
     public static final String MESSAGE_SUCCESS = "New session added for %1$s";
     public static final String MESSAGE_DUPLICATE_SESSION = "This session already exists for the person";
     public static final String MESSAGE_OVERLAPPING_SESSION = "This session overlaps with another existing session.";
+    public static final String MESSAGE_CLASHING_SESSION = "This session clashes with a session of: %1$s";
 
     private Index index;
     private final Day day;
@@ -79,6 +81,7 @@ public class AddSessionCommand extends Command {
         Person personToEdit = lastShownList.get(index.getZeroBased());
         if (personToEdit instanceof Student student) {
             Person personUpdated = toCopy((Student) personToEdit, day, time);
+            requireNoClash(model, new Session(day, time), personToEdit);
             model.setPerson(personToEdit, personUpdated);
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(String.format(MESSAGE_SUCCESS, personToEdit.getName()));
@@ -126,6 +129,24 @@ public class AddSessionCommand extends Command {
         );
     }
 
+    /**
+     * Checks that {@code session} does not overlap a session of any person other than {@code owner}.
+     *
+     * @param model   the model holding every session
+     * @param session the session to be booked
+     * @param owner   the person the session is booked for
+     * @throws CommandException if the session overlaps a session of another person
+     */
+    static void requireNoClash(Model model, Session session, Person owner) throws CommandException {
+        String clashingNames = model.getPersonsWithSessionsOverlapping(session).stream()
+                .filter(person -> person != owner)
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        if (!clashingNames.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_CLASHING_SESSION, clashingNames));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
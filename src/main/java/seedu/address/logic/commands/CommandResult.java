@@ -3,7 +3,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -19,13 +21,30 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The versions kept in backups should be listed, or the one at backupToRestore restored. */
+    private final boolean backupsRequested;
+
+    /** Index of the version to restore in the list of versions kept, or null if the versions are only listed. */
+    private final Index backupToRestore;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, false, null);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, including those asking for the versions kept in
+     * backups to be listed or restored.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean backupsRequested,
+            Index backupToRestore) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backupsRequested = backupsRequested;
+        this.backupToRestore = backupToRestore;
     }
 
     /**
@@ -48,6 +67,14 @@ public class CommandResult {
         return exit;
     }
 
+    public boolean isBackupsRequested() {
+        return backupsRequested;
+    }
+
+    public Optional<Index> getBackupToRestore() {
+        return Optional.ofNullable(backupToRestore);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +89,14 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && backupsRequested == otherCommandResult.backupsRequested
+                && Objects.equals(backupToRestore, otherCommandResult.backupToRestore);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, backupsRequested, backupToRestore);
     }
 
     @Override
@@ -76,6 +105,8 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("backupsRequested", backupsRequested)
+                .add("backupToRestore", backupToRestore)
                 .toString();
     }
 
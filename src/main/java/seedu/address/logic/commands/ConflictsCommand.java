@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.session.SessionConflict;
+
+/**
+ * Lists every pair of overlapping sessions booked for different students.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists every pair of sessions of different students "
+            + "that overlap.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_CONFLICTS = "No sessions clash";
+    public static final String MESSAGE_CONFLICTS_FOUND = "%1$d pair(s) of sessions clash:";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<SessionConflict> conflicts = model.getSessionConflicts();
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_CONFLICTS_FOUND, conflicts.size()));
+        for (int i = 0; i < conflicts.size(); i++) {
+            builder.append("\n").append(i + 1).append(". ").append(conflicts.get(i));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof ConflictsCommand;
+    }
+}
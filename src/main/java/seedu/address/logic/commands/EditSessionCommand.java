@@ -90,6 +90,7 @@ public class EditSessionCommand extends Command {
                 throw new CommandException(MESSAGE_SESSION_NOT_FOUND);
             }
             Person personUpdated = toCopy((Student) personToEdit, oldDay, oldTime, newDay, newTime);
+            AddSessionCommand.requireNoClash(model, new Session(newDay, newTime), personToEdit);
             model.setPerson(personToEdit, personUpdated);
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(String.format(MESSAGE_SUCCESS, personToEdit.getName()));
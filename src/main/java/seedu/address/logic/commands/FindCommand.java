@@ -52,16 +52,7 @@ public class FindCommand extends Command {
         if (this.namePredicate.isEmpty() && this.rolePredicate.isEmpty() && this.tagPredicate.isEmpty()) {
             predicate = person -> false;
         } else {
-            predicate = person ->true;
-            if (!this.namePredicate.isEmpty()) {
-                predicate = predicate.and(this.namePredicate);
-            }
-            if (!this.rolePredicate.isEmpty()) {
-                predicate = predicate.and(this.rolePredicate);
-            }
-            if (!this.tagPredicate.isEmpty()) {
-                predicate = predicate.and(this.tagPredicate);
-            }
+            predicate = model.findPersons(this.namePredicate, this.rolePredicate, this.tagPredicate);
         }
         model.updateFilteredPersonList(predicate);
         return new CommandResult(
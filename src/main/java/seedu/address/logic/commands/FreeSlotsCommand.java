@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LENGTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+/**
+ * Lists the stretches of time on a day, within working hours, that are long enough for a new session and do not
+ * clash with the session of any student.
+ */
+public class FreeSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "freeslots";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the free slots of at least the given length, "
+            + "in minutes, on a day. Only the working hours given are searched, or the whole day if none are.\n"
+            + "Parameters: "
+            + PREFIX_DAY + "DAY "
+            + PREFIX_LENGTH + "MINUTES "
+            + "[" + PREFIX_TIME + "WORKING_HOURS]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DAY + "Mon "
+            + PREFIX_LENGTH + "90 "
+            + PREFIX_TIME + "9am-6pm";
+
+    /** Searched when no working hours are given: the whole day, up to the last minute a session may end at. */
+    public static final Time DEFAULT_WORKING_HOURS = Time.of(0, 24 * 60 - 1);
+
+    public static final String MESSAGE_NO_FREE_SLOTS = "No free slot of %1$d minutes on %2$s within %3$s";
+    public static final String MESSAGE_FREE_SLOTS_FOUND = "Free slots of at least %1$d minutes on %2$s within %3$s:";
+
+    private final Day day;
+    private final int minLength;
+    private final Time workingHours;
+
+    /**
+     * Creates a FreeSlotsCommand to find the free slots of at least {@code minLength} minutes on {@code day} within
+     * {@code workingHours}.
+     */
+    public FreeSlotsCommand(Day day, int minLength, Time workingHours) {
+        requireAllNonNull(day, workingHours);
+        this.day = day;
+        this.minLength = minLength;
+        this.workingHours = workingHours;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Time> freeSlots = model.getFreeSlots(day.getDayOfWeek(), workingHours, minLength);
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, minLength, day, workingHours));
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_FREE_SLOTS_FOUND, minLength, day,
+                workingHours));
+        for (int i = 0; i < freeSlots.size(); i++) {
+            builder.append("\n").append(i + 1).append(". ").append(freeSlots.get(i));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotsCommand)) {
+            return false;
+        }
+
+        FreeSlotsCommand otherFreeSlotsCommand = (FreeSlotsCommand) other;
+        return day.equals(otherFreeSlotsCommand.day) && minLength == otherFreeSlotsCommand.minLength
+                && workingHours.equals(otherFreeSlotsCommand.workingHours);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("day", day)
+                .add("minLength", minLength)
+                .add("workingHours", workingHours)
+                .toString();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Lists the versions of the address book kept in backups, or restores the one identified by its index in that list.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the backed-up versions of the address book, newest first, or restores the version identified "
+            + "by its index number in that list.\n"
+            + "Parameters: [INDEX] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 2";
+
+    public static final String MESSAGE_LISTING = "Listing the backed-up versions";
+    public static final String MESSAGE_RESTORING = "Restoring backed-up version %1$d";
+
+    // Null if the versions are only to be listed
+    private final Index targetIndex;
+
+    /**
+     * Creates a RestoreCommand to list the versions kept.
+     */
+    public RestoreCommand() {
+        this.targetIndex = null;
+    }
+
+    /**
+     * Creates a RestoreCommand to restore the version at {@code targetIndex} of the list of versions kept.
+     */
+    public RestoreCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    /**
+     * Backups are kept by storage, which commands do not reach, so the result only asks for the versions kept to be
+     * listed, or for the one at the target index to be restored, which logic then does.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        String feedback = targetIndex == null ? MESSAGE_LISTING
+                : String.format(MESSAGE_RESTORING, targetIndex.getOneBased());
+        return new CommandResult(feedback, false, false, true, targetIndex);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+
+        RestoreCommand otherRestoreCommand = (RestoreCommand) other;
+        return Objects.equals(targetIndex, otherRestoreCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
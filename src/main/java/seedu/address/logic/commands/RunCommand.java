@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file as one batch.
+ * The commands are run on a copy of the model, which the model takes on all at once only if every command
+ * succeeds, so the list shown is updated, and the address book saved, once for the whole script.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_START = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one per line, as one batch. "
+            + "If any command fails, none of the changes are kept. "
+            + "Blank lines and lines starting with " + COMMENT_START + " are skipped.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " new-term.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_SCRIPT_NOT_READ = "Could not read script %1$s due to the following error: %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s\nNo changes were made.";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts";
+    public static final String MESSAGE_RESTORE_IN_SCRIPT = "Scripts cannot restore backups";
+
+    private final Path scriptFile;
+
+    /**
+     * Creates a RunCommand to run the script in {@code scriptFile}.
+     */
+    public RunCommand(Path scriptFile) {
+        requireNonNull(scriptFile);
+        this.scriptFile = scriptFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> commandLines;
+        try {
+            commandLines = FileUtil.readFromFile(scriptFile).lines().toList();
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_SCRIPT_NOT_READ, scriptFile, e.getMessage()), e);
+        }
+        int commandCount = runBatch(commandLines, new AddressBookParser(), model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, scriptFile));
+    }
+
+    /**
+     * Runs {@code commandLines} as one batch on {@code model}, skipping blank lines and comments. Every line is
+     * parsed before any is run, and the changes are committed to {@code model} only if every command succeeds.
+     * Restoring a backup is left to logic, so a script cannot do it.
+     *
+     * @return the number of commands run.
+     * @throws CommandException if any line could not be parsed or run, naming the line, in which case
+     *         {@code model} is left as it was.
+     */
+    public static int runBatch(List<String> commandLines, AddressBookParser parser, Model model)
+            throws CommandException {
+        requireNonNull(commandLines);
+        requireNonNull(parser);
+        requireNonNull(model);
+
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < commandLines.size(); i++) {
+            String line = commandLines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_START)) {
+                continue;
+            }
+            try {
+                Command command = parser.parseCommand(line);
+                if (command instanceof RunCommand) {
+                    throw new ParseException(MESSAGE_NESTED_SCRIPT);
+                }
+                if (command instanceof RestoreCommand) {
+                    throw new ParseException(MESSAGE_RESTORE_IN_SCRIPT);
+                }
+                commands.add(command);
+                lineNumbers.add(i + 1);
+            } catch (ParseException e) {
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, i + 1, e.getMessage()), e);
+            }
+        }
+
+        Model batch = model.beginBatch();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commands.get(i).execute(batch);
+            } catch (CommandException e) {
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, lineNumbers.get(i), e.getMessage()), e);
+            }
+        }
+        model.commitBatch(batch);
+        return commands.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptFile.equals(otherRunCommand.scriptFile);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFile", scriptFile)
+                .toString();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,11 +17,34 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Values found by {@link ArgumentTokenizer} are kept as positions in the arguments string, and are only cut out of it
+ * and trimmed the first time they are asked for, as most parsers ask for only some of them, and some only ask how
+ * many there are.
  */
 public class ArgumentMultimap {
 
+    /** The prefix of the preamble, the text before the first valid prefix. */
+    static final Prefix PREAMBLE = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, ArgumentValues> argMultimap = new HashMap<>();
+
+    /** The arguments string the values of this map are found in, or null if they were all put as strings. */
+    private final String argsString;
+
+    /**
+     * Creates an empty {@code ArgumentMultimap}.
+     */
+    public ArgumentMultimap() {
+        this(null);
+    }
+
+    /**
+     * Creates an empty {@code ArgumentMultimap} of values found in {@code argsString}.
+     */
+    ArgumentMultimap(String argsString) {
+        this.argsString = argsString;
+    }
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -30,17 +54,24 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArgumentValues()).add(argValue);
+    }
+
+    /**
+     * Associates the value in the arguments string of this map from {@code start} up to {@code end} with
+     * {@code prefix}, as {@link #put} does. The value is trimmed when it is first asked for.
+     */
+    void putSlice(Prefix prefix, int start, int end) {
+        assert argsString != null;
+        argMultimap.computeIfAbsent(prefix, unused -> new ArgumentValues()).addSlice(start, end);
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        ArgumentValues values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1));
     }
 
     /**
@@ -49,17 +80,22 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
+        ArgumentValues values = argMultimap.get(prefix);
+        if (values == null) {
             return new ArrayList<>();
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        List<String> allValues = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            allValues.add(values.get(i));
+        }
+        return allValues;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE).orElse("");
     }
 
     /**
@@ -75,4 +111,58 @@ public class ArgumentMultimap {
             throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(duplicatedPrefixes));
         }
     }
+
+    /**
+     * The values of one prefix, each either put as a string or found at a position in the arguments string.
+     */
+    private class ArgumentValues {
+        // The start and end of each value in the arguments string, and each value once it has been cut out
+        private int[] bounds = new int[2];
+        private String[] values = new String[1];
+        private int size;
+
+        void add(String value) {
+            ensureCapacity();
+            values[size++] = value;
+        }
+
+        void addSlice(int start, int end) {
+            ensureCapacity();
+            bounds[2 * size] = start;
+            bounds[2 * size + 1] = end;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        String get(int index) {
+            if (values[index] == null) {
+                values[index] = trimmedSubstring(bounds[2 * index], bounds[2 * index + 1]);
+            }
+            return values[index];
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * size);
+                bounds = Arrays.copyOf(bounds, 4 * size);
+            }
+        }
+
+        /**
+         * Returns the part of the arguments string from {@code start} up to {@code end}, trimmed as
+         * {@link String#trim} does, but without cutting out the untrimmed part first.
+         */
+        private String trimmedSubstring(int start, int end) {
+            while (start < end && argsString.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && argsString.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            return argsString.substring(start, end);
+        }
+    }
 }
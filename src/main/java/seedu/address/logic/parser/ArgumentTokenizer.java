@@ -2,8 +2,11 @@ package seedu.address.logic.parser;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +15,13 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * The arguments string is scanned once from left to right, by a scanner built once for each set of prefixes.
  */
 public class ArgumentTokenizer {
 
+    // Each parser tokenizes with a fixed set of prefixes, so there are only ever a few scanners
+    private static final Map<List<Prefix>, PrefixScanner> scanners = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,124 +31,72 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+        return scanners.computeIfAbsent(List.of(prefixes), PrefixScanner::new).scan(argsString);
     }
 
     /**
-     * {@see findAllPrefixPositions}
+     * Finds the prefixes of a set in an arguments string in a single pass. A prefix is found where it starts right
+     * after a space, e.g. in {@code "e/hi p/900"} but not in {@code "e/hip/900"}. Where several prefixes of the set
+     * start at the same place, the longest is found.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
-        }
-
-        return argMultimap;
-    }
-
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static class PrefixScanner {
+
+        // The prefixes of the set starting with each character, longest first
+        private final Map<Character, Prefix[]> prefixesByFirstChar = new HashMap<>();
+
+        PrefixScanner(List<Prefix> prefixes) {
+            Map<Character, List<Prefix>> grouped = new HashMap<>();
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (!prefixString.isEmpty()) {
+                    grouped.computeIfAbsent(prefixString.charAt(0), unused -> new ArrayList<>()).add(prefix);
+                }
+            }
+            grouped.forEach((firstChar, group) -> {
+                Prefix[] longestFirst = group.stream().distinct().toArray(Prefix[]::new);
+                Arrays.sort(longestFirst, Comparator.comparingInt((Prefix prefix) -> prefix.getPrefix().length())
+                        .reversed());
+                prefixesByFirstChar.put(firstChar, longestFirst);
+            });
         }
 
-        int getStartPosition() {
-            return startPosition;
+        /**
+         * Returns the {@code ArgumentMultimap} of {@code argsString}, holding the position of each value in
+         * {@code argsString} rather than the value itself.
+         */
+        ArgumentMultimap scan(String argsString) {
+            ArgumentMultimap argMultimap = new ArgumentMultimap(argsString);
+            Prefix currentPrefix = ArgumentMultimap.PREAMBLE;
+            int valueStart = 0;
+            for (int i = 1; i < argsString.length(); i++) {
+                if (argsString.charAt(i - 1) != ' ') {
+                    continue;
+                }
+                Prefix prefix = prefixAt(argsString, i);
+                if (prefix == null) {
+                    continue;
+                }
+                // The value of the previous prefix runs up to this one
+                argMultimap.putSlice(currentPrefix, valueStart, i);
+                currentPrefix = prefix;
+                valueStart = i + prefix.getPrefix().length();
+                i = valueStart - 1;
+            }
+            argMultimap.putSlice(currentPrefix, valueStart, argsString.length());
+            return argMultimap;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        private Prefix prefixAt(String argsString, int index) {
+            Prefix[] candidates = prefixesByFirstChar.get(argsString.charAt(index));
+            if (candidates == null) {
+                return null;
+            }
+            for (Prefix candidate : candidates) {
+                if (argsString.startsWith(candidate.getPrefix(), index)) {
+                    return candidate;
+                }
+            }
+            return null;
         }
     }
 
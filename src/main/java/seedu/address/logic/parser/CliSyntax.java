@@ -17,4 +17,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_NEW_DAY = new Prefix("nd/");
     public static final Prefix PREFIX_NEW_TIME = new Prefix("nti/");
     public static final Prefix PREFIX_PARENT = new Prefix("par/");
+    public static final Prefix PREFIX_LENGTH = new Prefix("len/");
 }
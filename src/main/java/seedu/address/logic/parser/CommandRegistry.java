@@ -0,0 +1,99 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddSessionCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteSessionCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.EditSessionCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.ViewSessionCommand;
+
+/**
+ * Maps each command word, and each of its aliases, to the parser of its arguments.
+ * Parsers are registered once and reused for every command parsed, so they must not keep any state between calls.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /**
+     * Returns a registry of every command of the app.
+     */
+    public static CommandRegistry withBuiltInCommands() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(new AddCommandParser(), AddCommand.COMMAND_WORD);
+        registry.register(new EditCommandParser(), EditCommand.COMMAND_WORD);
+        registry.register(new DeleteCommandParser(), DeleteCommand.COMMAND_WORD);
+        registry.register(args -> new ClearCommand(), ClearCommand.COMMAND_WORD);
+        registry.register(new FindCommandParser(), FindCommand.COMMAND_WORD);
+        registry.register(new RemarkCommandParser(), RemarkCommand.COMMAND_WORD);
+        registry.register(args -> new ListCommand(), ListCommand.COMMAND_WORD);
+        registry.register(args -> new ExitCommand(), ExitCommand.COMMAND_WORD);
+        registry.register(args -> new HelpCommand(), HelpCommand.COMMAND_WORD);
+        registry.register(new RestoreCommandParser(), RestoreCommand.COMMAND_WORD);
+        registry.register(new RunCommandParser(), RunCommand.COMMAND_WORD);
+
+        registry.register(new AddSessionCommandParser(), AddSessionCommand.COMMAND_WORD);
+        registry.register(new EditSessionCommandParser(), EditSessionCommand.COMMAND_WORD);
+        registry.register(new DeleteSessionCommandParser(), DeleteSessionCommand.COMMAND_WORD);
+        registry.register(args -> new ConflictsCommand(), ConflictsCommand.COMMAND_WORD);
+        registry.register(new FreeSlotsCommandParser(), FreeSlotsCommand.COMMAND_WORD);
+
+        registry.register(new ViewCommandParser(), ViewCommand.COMMAND_WORD);
+
+        // Support both camel-case and lower-case + optional leading slash aliases.
+        registry.register(new ViewSessionCommandParser(), ViewSessionCommand.COMMAND_WORD,
+                ViewSessionCommand.COMMAND_WORD_LOWER, "/" + ViewSessionCommand.COMMAND_WORD,
+                "/" + ViewSessionCommand.COMMAND_WORD_LOWER);
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the arguments of {@code commandWord} and each of {@code aliases}.
+     *
+     * @throws IllegalArgumentException if any of the words is already registered, in which case none are.
+     */
+    public void register(Parser<? extends Command> parser, String commandWord, String... aliases) {
+        requireNonNull(parser);
+        requireNonNull(commandWord);
+        Map<String, Parser<? extends Command>> added = new HashMap<>();
+        added.put(commandWord, parser);
+        for (String alias : aliases) {
+            added.put(requireNonNull(alias), parser);
+        }
+        for (String word : added.keySet()) {
+            if (word.isEmpty() || word.chars().anyMatch(Character::isWhitespace)) {
+                throw new IllegalArgumentException("Command words must be non-empty without whitespace: " + word);
+            }
+            if (parsers.containsKey(word)) {
+                throw new IllegalArgumentException("Command word already registered: " + word);
+            }
+        }
+        parsers.putAll(added);
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+}
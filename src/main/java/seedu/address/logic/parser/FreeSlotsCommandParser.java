@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LENGTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+/**
+ * Parses input arguments and creates a new {@link FreeSlotsCommand} object.
+ * <p>
+ * This parser expects arguments in the format {@code d/DAY len/MINUTES [ti/WORKING_HOURS]}, e.g.
+ * {@code d/Mon len/90 ti/9am-6pm}. The whole day is searched when no working hours are given.
+ * </p>
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeSlotsCommand
+     * and returns a FreeSlotsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DAY, PREFIX_LENGTH, PREFIX_TIME);
+
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_DAY).isEmpty()
+                || argMultimap.getValue(PREFIX_LENGTH).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DAY, PREFIX_LENGTH, PREFIX_TIME);
+
+        Day day = ParserUtil.parseDay(argMultimap.getValue(PREFIX_DAY).get());
+        int minLength = ParserUtil.parseLength(argMultimap.getValue(PREFIX_LENGTH).get());
+        Optional<String> workingHours = argMultimap.getValue(PREFIX_TIME);
+        Time window = workingHours.isPresent()
+                ? ParserUtil.parseTime(workingHours.get())
+                : FreeSlotsCommand.DEFAULT_WORKING_HOURS;
+
+        return new FreeSlotsCommand(day, minLength, window);
+    }
+}
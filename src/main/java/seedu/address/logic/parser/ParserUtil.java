@@ -24,6 +24,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_LENGTH = "Length should be a number of minutes from 1 to 1440.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -156,6 +157,21 @@ public class ParserUtil {
         return new Day(trimmedDay);
     }
 
+    /**
+     * Parses {@code length} into a number of minutes and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     *
+     * @throws ParseException if the given {@code length} is not a number of minutes in a day.
+     */
+    public static int parseLength(String length) throws ParseException {
+        requireNonNull(length);
+        String trimmedLength = length.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLength) || Integer.parseInt(trimmedLength) > 24 * 60) {
+            throw new ParseException(MESSAGE_INVALID_LENGTH);
+        }
+        return Integer.parseInt(trimmedLength);
+    }
+
     /**
      * Parses a {@code String remark} into a {@code Remark}.
      * Leading and trailing whitespaces will be trimmed. ensurer
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RestoreCommand object
+ */
+public class RestoreCommandParser implements Parser<RestoreCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RestoreCommand
+     * and returns a RestoreCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RestoreCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new RestoreCommand();
+        }
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new RestoreCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
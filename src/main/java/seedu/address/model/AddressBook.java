@@ -2,13 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RoleContainsKeywordsPredicate;
+import seedu.address.model.person.Session;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.Time;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.session.SessionConflict;
 
 /**
  * Wraps all data at the address-book level
@@ -18,6 +26,10 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    // Incremented by every change to the address book, so that callers can tell whether it changed since they
+    // last looked
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -47,15 +59,53 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
-     * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Resets the existing data of this {@code AddressBook} with {@code newData}, and links its parents and students,
+     * in case {@code newData} has not.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
+        persons.resolveAllParentLinks();
+    }
+
+    /**
+     * Updates the existing data of this {@code AddressBook} to {@code newData}, adding, replacing and removing only
+     * the persons that differ, so that the list is not rebuilt as a whole.
+     * The version is left as it is if no person differs.
+     */
+    public void mergeData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+
+        if (persons.mergePersons(newData.getPersonList())) {
+            version++;
+        }
+    }
+
+    /**
+     * Replaces the persons of this {@code AddressBook} with {@code persons}, keeping in place every person at the
+     * start and end of the list that is the same instance in both, so that only the persons changed are replaced.
+     */
+    public void replaceChangedPersons(List<Person> persons) {
+        requireNonNull(persons);
+
+        this.persons.replaceChangedPersons(persons);
+        version++;
+    }
+
+    /**
+     * Returns a copy of this {@code AddressBook} holding copies of its persons, linked among themselves, so that
+     * changes to either address book, including to the links between its parents and students, never reach the other.
+     */
+    public AddressBook deepCopy() {
+        AddressBook copy = new AddressBook();
+        copy.setPersons(getPersonList().stream().map(Person::copy).toList());
+        copy.persons.resolveAllParentLinks();
+        return copy;
     }
 
     //// person-level operations
@@ -74,6 +124,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
@@ -85,6 +136,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -93,6 +145,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
     }
 
     /**
@@ -104,6 +157,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(student);
 
         persons.resolveParentLink(student);
+        version++;
     }
 
     /**
@@ -112,6 +166,54 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void linkAllParents() {
         persons.resolveAllParentLinks();
+        version++;
+    }
+
+    /**
+     * Returns the number of changes made to this address book since it was created.
+     * Two calls return the same value only if the address book was not changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a predicate matching the persons that satisfy every non-empty predicate given.
+     * Persons in the address book are matched through its search index.
+     */
+    public Predicate<Person> findPersons(NameContainsKeywordsPredicate namePredicate,
+            RoleContainsKeywordsPredicate rolePredicate, TagContainsKeywordsPredicate tagPredicate) {
+        return persons.find(namePredicate, rolePredicate, tagPredicate);
+    }
+
+    /**
+     * Returns the persons with at least one session on {@code day}, ordered by their earliest start that day and
+     * then by name.
+     */
+    public List<Person> getPersonsWithSessionsOn(DayOfWeek day) {
+        return persons.getPersonsWithSessionsOn(day);
+    }
+
+    /**
+     * Returns the persons with a session overlapping {@code session}.
+     */
+    public List<Person> getPersonsWithSessionsOverlapping(Session session) {
+        return persons.getPersonsWithSessionsOverlapping(session);
+    }
+
+    /**
+     * Returns every pair of overlapping sessions of different persons in the address book.
+     */
+    public List<SessionConflict> getSessionConflicts() {
+        return persons.getSessionConflicts();
+    }
+
+    /**
+     * Returns the stretches of at least {@code minLength} minutes within {@code window} on {@code day} in which
+     * no session in the address book is running.
+     */
+    public List<Time> getFreeSlots(DayOfWeek day, Time window, int minLength) {
+        return persons.getFreeSlots(day, window, minLength);
     }
 
     //// util methods
@@ -1,13 +1,20 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.time.DayOfWeek;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RoleContainsKeywordsPredicate;
+import seedu.address.model.person.Session;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.Time;
+import seedu.address.model.session.SessionConflict;
 
 /**
  * API for model component.
@@ -64,12 +71,42 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Bring in-memory book in line with given read-only view, touching only the persons that differ.
+     * @param addressBook data; not null
+     */
+    void mergeAddressBook(ReadOnlyAddressBook addressBook);
+
     /**
      * Accessor for in-memory book.
      * @return read-only view
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Change counter of the in-memory book.
+     * Unchanged between two calls only if the book was not modified in between.
+     * @return number of changes made to the book so far
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Start a batch of changes on a copy of this model.
+     * The copy holds its own copies of the book and prefs, and its filtered list shows the same persons in the
+     * same order as this model's. Nothing done to the copy reaches this model until committed.
+     * @return the copy to make the changes on
+     */
+    Model beginBatch();
+
+    /**
+     * Take on the changes batch made to the book and to the persons shown, all at once.
+     * Only the persons the batch changed are replaced; the others stay as they were. If the batch chose which
+     * persons to show, this model shows the sessions of the same day, or else every person, as a filter of the
+     * batch may hold on to the batch's book. The batch must not be used afterwards.
+     * @param batch copy returned by beginBatch of this model; not null
+     */
+    void commitBatch(Model batch);
+
     /**
      * Check presence of person.
      * @param person target; not null
@@ -106,20 +143,53 @@ public interface Model {
     // ---------- Filter / sort / expose ----------
 
     /**
-     * Update predicate used by filtered list.
+     * Persons with a session overlapping given session, read from the schedule index.
+     * @param session session to check; not null
+     * @return overlapping persons, in order of the start of their overlapping session
+     */
+    List<Person> getPersonsWithSessionsOverlapping(Session session);
+
+    /**
+     * Every pair of overlapping sessions of different persons, by day then start.
+     * @return conflicts; empty when none
+     */
+    List<SessionConflict> getSessionConflicts();
+
+    /**
+     * Stretches of free time on day within window, read from the schedule index's occupancy bitsets.
+     * @param day weekday; not null
+     * @param window working hours to look in; not null
+     * @param minLength shortest stretch to return, in minutes
+     * @return free stretches, earliest first; empty when none
+     */
+    List<Time> getFreeSlots(DayOfWeek day, Time window, int minLength);
+
+    /**
+     * Build predicate matching persons that satisfy every non-empty predicate given.
+     * Answered from the address book's search index instead of testing each person.
+     * @param namePredicate name keywords; not null
+     * @param rolePredicate role keywords; not null
+     * @param tagPredicate tag keywords; not null
+     */
+    Predicate<Person> findPersons(NameContainsKeywordsPredicate namePredicate,
+            RoleContainsKeywordsPredicate rolePredicate, TagContainsKeywordsPredicate tagPredicate);
+
+    /**
+     * Update predicate used by filtered list, showing the persons it matches in book order.
      * @param predicate filter; not null
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Sort current filtered list with comparator; stable inside equal keys.
-     * Allows commands to order output without mutating stored data.
-     * @param comparator order; not null
+     * Show persons with a session on day in filtered list, by earliest start that day then name.
+     * Read straight from the schedule index, which keeps them in that order; follows later changes to the book
+     * until the predicate is next updated.
+     * @param day weekday; not null
      */
-    void sortFilteredPersonList(Comparator<Person> comparator);
+    void showPersonsWithSessionsOn(DayOfWeek day);
 
     /**
-     * Unmodifiable view of current filtered (and possibly sorted) list.
+     * Unmodifiable view of current filtered list, or of the persons with sessions on a day.
      * @return observable list
      */
     ObservableList<Person> getFilteredPersonList();
@@ -1,20 +1,35 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.binding.Bindings;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RoleContainsKeywordsPredicate;
+import seedu.address.model.person.Session;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.Time;
+import seedu.address.model.session.ScheduleIndex;
+import seedu.address.model.session.SessionConflict;
 
 /**
  * Default implementation for Model.
@@ -27,8 +42,18 @@ public class ModelManager implements Model {
 
     // Backing list from book
     private final FilteredList<Person> filteredPersons;
-    // Sorted view layered on top of filtered view
-    private final SortedList<Person> sortedPersons;
+    // Persons shown: bound to the content of filteredPersons, or the persons with sessions on sessionDay
+    private final ObservableList<Person> shownPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableShownPersons =
+            FXCollections.unmodifiableObservableList(shownPersons);
+    // Day whose sessions are shown, or null when the filtered persons are shown
+    private DayOfWeek sessionDay;
+    // Version of the book when this model was begun as a batch, or -1 if it is not a batch
+    private final long batchStartVersion;
+    // Person of the model a batch was begun on for each of the batch's copies, empty if this is not a batch
+    private final Map<Person, Person> originalsByCopy;
+    // Whether the persons shown were chosen afresh since this model was constructed
+    private boolean isViewChanged;
 
     /**
      * Construct from read-only views. Wrap into mutable copies for in-memory work.
@@ -45,7 +70,30 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
 
         this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        this.sortedPersons = new SortedList<>(filteredPersons);
+        this.batchStartVersion = -1;
+        this.originalsByCopy = Map.of();
+        addListeners();
+    }
+
+    /**
+     * Construct a batch on a deep copy of original, showing the same persons in the same order.
+     * @param original model the batch is begun on; not null
+     */
+    private ModelManager(ModelManager original) {
+        this.addressBook = original.addressBook.deepCopy();
+        this.userPrefs = new UserPrefs(original.userPrefs);
+
+        this.filteredPersons = new FilteredList<>(addressBook.getPersonList(),
+                original.filteredPersons.getPredicate());
+        this.sessionDay = original.sessionDay;
+        this.batchStartVersion = addressBook.getVersion();
+        this.originalsByCopy = new IdentityHashMap<>();
+        List<Person> originals = original.addressBook.getPersonList();
+        List<Person> copies = addressBook.getPersonList();
+        for (int i = 0; i < originals.size(); i++) {
+            originalsByCopy.put(copies.get(i), originals.get(i));
+        }
+        addListeners();
     }
 
     /**
@@ -62,6 +110,59 @@ public class ModelManager implements Model {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Fills shownPersons and keeps it in step with the filtered persons, or with the schedule while sessions are
+     * shown.
+     */
+    private void addListeners() {
+        if (sessionDay == null) {
+            Bindings.bindContent(shownPersons, filteredPersons);
+        } else {
+            shownPersons.setAll(addressBook.getPersonsWithSessionsOn(sessionDay));
+        }
+        addressBook.getPersonList().addListener(this::followSchedule);
+    }
+
+    /**
+     * Applies the persons removed from and added to the book to the sessions shown, if sessions are shown, placing
+     * each person added in the order of the schedule. Persons without a session on the day shown are passed over.
+     */
+    private void followSchedule(ListChangeListener.Change<? extends Person> change) {
+        if (sessionDay == null) {
+            return;
+        }
+        Comparator<Person> order = ScheduleIndex.orderOn(sessionDay);
+        while (change.next()) {
+            // The order of the book does not decide the order of the sessions shown
+            if (change.wasPermutated()) {
+                continue;
+            }
+            List<Person> removed = onSessionDay(change.getRemoved());
+            List<Person> added = onSessionDay(change.getAddedSubList());
+            if (removed.size() + added.size() > shownPersons.size()) {
+                // Placing each person would cost more than reading the day afresh, as when the book is reset
+                shownPersons.setAll(addressBook.getPersonsWithSessionsOn(sessionDay));
+                return;
+            }
+            for (Person person : removed) {
+                shownPersons.remove(Collections.binarySearch(shownPersons, person, order));
+            }
+            for (Person person : added) {
+                shownPersons.add(-Collections.binarySearch(shownPersons, person, order) - 1, person);
+            }
+        }
+    }
+
+    private List<Person> onSessionDay(List<? extends Person> persons) {
+        List<Person> onSessionDay = new ArrayList<>();
+        for (Person person : persons) {
+            if (ScheduleIndex.hasSessionOn(person, sessionDay)) {
+                onSessionDay.add(person);
+            }
+        }
+        return onSessionDay;
+    }
+
     // ---------- UserPrefs ----------
 
     @Override
@@ -105,11 +206,52 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void mergeAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook.mergeData(addressBook);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public Model beginBatch() {
+        return new ModelManager(this);
+    }
+
+    @Override
+    public void commitBatch(Model batch) {
+        requireNonNull(batch);
+        checkArgument(batch instanceof ModelManager && ((ModelManager) batch).batchStartVersion >= 0,
+                "Not a batch begun on a ModelManager");
+        ModelManager committed = (ModelManager) batch;
+
+        // Copies the batch left alone give way to the persons they were copied from, so that only the persons the
+        // batch changed are replaced, and are seen as changed when the book is next saved
+        if (committed.addressBook.getVersion() != committed.batchStartVersion) {
+            addressBook.replaceChangedPersons(committed.addressBook.getPersonList().stream()
+                    .map(person -> committed.originalsByCopy.getOrDefault(person, person))
+                    .toList());
+        }
+        // The predicate of the batch may hold on to the batch's book, so it is not taken on
+        if (!committed.isViewChanged) {
+            return;
+        }
+        if (committed.sessionDay != null) {
+            showPersonsWithSessionsOn(committed.sessionDay);
+        } else {
+            showFilteredPersons(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -138,29 +280,77 @@ public class ModelManager implements Model {
     @Override
     public void linkParent(Student student) {
         requireNonNull(student);
-        // Delegate to addressBook if available; keep safe no-op otherwise.
-        // addressBook.linkParent(student);
+        // No-op: the student is linked to its parent when it is added to the address book.
     }
 
     // ---------- Filter / sort / expose ----------
 
+    @Override
+    public List<Person> getPersonsWithSessionsOverlapping(Session session) {
+        requireNonNull(session);
+        return addressBook.getPersonsWithSessionsOverlapping(session);
+    }
+
+    @Override
+    public List<SessionConflict> getSessionConflicts() {
+        return addressBook.getSessionConflicts();
+    }
+
+    @Override
+    public List<Time> getFreeSlots(DayOfWeek day, Time window, int minLength) {
+        requireNonNull(day);
+        requireNonNull(window);
+        return addressBook.getFreeSlots(day, window, minLength);
+    }
+
+    @Override
+    public Predicate<Person> findPersons(NameContainsKeywordsPredicate namePredicate,
+            RoleContainsKeywordsPredicate rolePredicate, TagContainsKeywordsPredicate tagPredicate) {
+        requireNonNull(namePredicate);
+        requireNonNull(rolePredicate);
+        requireNonNull(tagPredicate);
+        return addressBook.findPersons(namePredicate, rolePredicate, tagPredicate);
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        isViewChanged = true;
+        showFilteredPersons(predicate);
+    }
+
+    /**
+     * Shows the persons matching {@code predicate}, in place of the sessions of a day if those are shown.
+     */
+    private void showFilteredPersons(Predicate<? super Person> predicate) {
+        if (sessionDay == null) {
+            // The filtered list keeps up with changes to the book itself, so the same predicate need not be reapplied
+            if (predicate != filteredPersons.getPredicate()) {
+                filteredPersons.setPredicate(predicate);
+            }
+            return;
+        }
+        // shownPersons holds sessions, so it is bound to the filtered persons, and refilled, only once they are set
         filteredPersons.setPredicate(predicate);
+        sessionDay = null;
+        Bindings.bindContent(shownPersons, filteredPersons);
     }
 
     @Override
-    public void sortFilteredPersonList(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        // Sort by setting comparator on SortedList wrapper; no in-place mutation on FilteredList.
-        sortedPersons.setComparator(comparator);
+    public void showPersonsWithSessionsOn(DayOfWeek day) {
+        requireNonNull(day);
+        isViewChanged = true;
+        if (sessionDay == null) {
+            Bindings.unbindContent(shownPersons, filteredPersons);
+        }
+        sessionDay = day;
+        shownPersons.setAll(addressBook.getPersonsWithSessionsOn(day));
     }
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        // Expose sorted view; unmodifiable wrapper preserves UI contract.
-        return FXCollections.unmodifiableObservableList(sortedPersons);
+        // Unmodifiable wrapper preserves UI contract.
+        return unmodifiableShownPersons;
     }
 
     @Override
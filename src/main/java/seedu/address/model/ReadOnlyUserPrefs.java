@@ -13,4 +13,34 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book should be written to the disk by a background thread after each change,
+     * instead of before the command making the change returns.
+     */
+    boolean isSaveInBackground();
+
+    /**
+     * Returns true if each change to the address book should be appended to a journal next to its data file,
+     * instead of rewriting the whole data file.
+     */
+    boolean isSaveToJournal();
+
+    /**
+     * Returns true if the address book should be kept as a binary snapshot next to its data file, which is faster to
+     * read and write than json for large address books.
+     */
+    boolean isSaveAsSnapshot();
+
+    /**
+     * Returns true if the address book should be kept in segments next to its data file, so that saving a change
+     * rewrites only the segments holding the persons changed.
+     */
+    boolean isSaveInSegments();
+
+    /**
+     * Returns the number of whole copies of the address book to keep as backups, each followed by the changes saved
+     * after it, or 0 if no backups should be kept.
+     */
+    int getBackupCount();
+
 }
@@ -15,6 +15,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean saveInBackground = false;
+    private boolean saveToJournal = false;
+    private boolean saveAsSnapshot = false;
+    private boolean saveInSegments = false;
+    private int backupCount = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSaveInBackground(newUserPrefs.isSaveInBackground());
+        setSaveToJournal(newUserPrefs.isSaveToJournal());
+        setSaveAsSnapshot(newUserPrefs.isSaveAsSnapshot());
+        setSaveInSegments(newUserPrefs.isSaveInSegments());
+        setBackupCount(newUserPrefs.getBackupCount());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,46 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isSaveInBackground() {
+        return saveInBackground;
+    }
+
+    public void setSaveInBackground(boolean saveInBackground) {
+        this.saveInBackground = saveInBackground;
+    }
+
+    public boolean isSaveToJournal() {
+        return saveToJournal;
+    }
+
+    public void setSaveToJournal(boolean saveToJournal) {
+        this.saveToJournal = saveToJournal;
+    }
+
+    public boolean isSaveAsSnapshot() {
+        return saveAsSnapshot;
+    }
+
+    public void setSaveAsSnapshot(boolean saveAsSnapshot) {
+        this.saveAsSnapshot = saveAsSnapshot;
+    }
+
+    public boolean isSaveInSegments() {
+        return saveInSegments;
+    }
+
+    public void setSaveInSegments(boolean saveInSegments) {
+        this.saveInSegments = saveInSegments;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    public void setBackupCount(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +119,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && saveInBackground == otherUserPrefs.saveInBackground
+                && saveToJournal == otherUserPrefs.saveToJournal
+                && saveAsSnapshot == otherUserPrefs.saveAsSnapshot
+                && saveInSegments == otherUserPrefs.saveInSegments
+                && backupCount == otherUserPrefs.backupCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, saveInBackground, saveToJournal, saveAsSnapshot,
+                saveInSegments, backupCount);
     }
 
     @Override
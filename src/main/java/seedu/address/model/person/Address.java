@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in
@@ -19,6 +21,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^[\\s\\p{Alnum}#,.-]{20,80}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -28,16 +31,30 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, true);
+    }
+
+    private Address(String address, boolean isChecked) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        }
         value = address;
     }
 
+    /**
+     * Returns an {@code Address} of {@code address} without checking that it is valid, for an address already known
+     * to be valid, such as one read back from a data file exactly as the app wrote it.
+     */
+    public static Address ofTrusted(String address) {
+        return new Address(address, false);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
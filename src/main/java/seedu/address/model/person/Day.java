@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.DayOfWeek;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's day for a session in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDay(String)}
@@ -13,8 +16,14 @@ public class Day {
                     + "(e.g., Monday, Friday)";
     public static final String VALIDATION_REGEX =
             "^(?i)(mon(day)?|tue(sday)?|wed(nesday)?|thur(sday)?|fri(day)?|sat(urday)?|sun(day)?)$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Day[] DAYS_OF_WEEK = {
+        new Day("Mon"), new Day("Tue"), new Day("Wed"), new Day("Thur"), new Day("Fri"), new Day("Sat"), new Day("Sun")
+    };
 
     private final String value;
+    private final DayOfWeek dayOfWeek;
 
     /**
      * Constructs a {@code Day}.
@@ -22,53 +31,86 @@ public class Day {
      * @param day A valid day.
      */
     public Day(String day) {
+        this(day, true);
+    }
+
+    private Day(String day, boolean isChecked) {
         requireNonNull(day);
         String normalizedDay = day.trim();
-        checkArgument(isValidDay(normalizedDay), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidDay(normalizedDay), MESSAGE_CONSTRAINTS);
+        }
 
         switch (normalizedDay.toLowerCase()) {
         case "monday":
         case "mon":
             this.value = "Mon";
+            this.dayOfWeek = DayOfWeek.MONDAY;
             break;
         case "tuesday":
         case "tue":
             this.value = "Tue";
+            this.dayOfWeek = DayOfWeek.TUESDAY;
             break;
         case "wednesday":
         case "wed":
             this.value = "Wed";
+            this.dayOfWeek = DayOfWeek.WEDNESDAY;
             break;
         case "thursday":
         case "thur":
             this.value = "Thur";
+            this.dayOfWeek = DayOfWeek.THURSDAY;
             break;
         case "friday":
         case "fri":
             this.value = "Fri";
+            this.dayOfWeek = DayOfWeek.FRIDAY;
             break;
         case "saturday":
         case "sat":
             this.value = "Sat";
+            this.dayOfWeek = DayOfWeek.SATURDAY;
             break;
         case "sunday":
         case "sun":
             this.value = "Sun";
+            this.dayOfWeek = DayOfWeek.SUNDAY;
             break;
         default:
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
     }
 
+    /**
+     * Returns a {@code Day} of {@code day} without checking that it is valid, for a day already known to be
+     * valid, such as one read back from a data file exactly as the app wrote it.
+     */
+    public static Day ofTrusted(String day) {
+        return new Day(day, false);
+    }
+
+    /**
+     * Returns the {@code Day} for {@code dayOfWeek}.
+     */
+    public static Day of(DayOfWeek dayOfWeek) {
+        requireNonNull(dayOfWeek);
+        return DAYS_OF_WEEK[dayOfWeek.ordinal()];
+    }
+
     public String getValue() {
         return value;
     }
 
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
     /**
     * Returns true if a given string is a valid day.
     */
     public static boolean isValidDay(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
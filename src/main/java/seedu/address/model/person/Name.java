@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +20,7 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^[\\p{IsAlphabetic}][\\p{IsAlphabetic}' -]{0,50}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -27,16 +30,30 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean isChecked) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without checking that it is valid, for a name already known to be
+     * valid, such as one read back from a data file exactly as the app wrote it.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, false);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -62,7 +79,11 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // Must agree with equalsIgnoreCase above, which treats two characters as equal if they are equal once
+        // upper-cased and then lower-cased, so each character is folded the same way before hashing
+        return fullName.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .reduce(0, (hash, codePoint) -> 31 * hash + codePoint);
     }
 
 }
@@ -17,6 +17,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
     }
 
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     /**
      * Returns true if the keywords list is empty.
      * @return true if the keywords list is empty, false otherwise.
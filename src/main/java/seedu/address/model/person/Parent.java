@@ -34,6 +34,11 @@ public class Parent extends Person {
         super(name, Role.PARENT_ROLE);
     }
 
+    @Override
+    public Parent copy() {
+        return new Parent(name, phone, address, remark);
+    }
+
     public boolean hasChild(Student student) {
         return children.contains(student);
     }
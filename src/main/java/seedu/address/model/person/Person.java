@@ -82,6 +82,11 @@ public abstract class Person {
         return sessionSlot;
     }
 
+    /**
+     * Returns a copy of this person with the same fields, linked to no other person.
+     */
+    public abstract Person copy();
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -0,0 +1,15 @@
+package seedu.address.model.person;
+
+/**
+ * Hash key over the identity fields compared by {@link Person#isSamePerson(Person)}, so that two persons have equal
+ * keys exactly when they are the same person.
+ */
+public record PersonIdentity(Name name, Role role) {
+
+    /**
+     * Returns the identity of {@code person}.
+     */
+    public static PersonIdentity of(Person person) {
+        return new PersonIdentity(person.getName(), person.getRole());
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+
+/**
+ * An inverted index over the persons of a {@code UniquePersonList}, used to answer find queries without testing
+ * every person in the list.
+ * Each person is given a slot, and each posting list is a {@code BitSet} of the slots whose person has that name
+ * token, role or tag. Name tokens and roles are keyed on their lower-cased text, as find matches them
+ * case-insensitively, and tags on their id in a {@code TagDictionary}.
+ */
+class PersonSearchIndex {
+
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Map<Person, Integer> slotsByPerson = new IdentityHashMap<>();
+    private final BitSet freeSlots = new BitSet();
+
+    // The value of assignmentCount when each slot was last given a person
+    private long[] slotAssignedAt = new long[16];
+    private long assignmentCount = 0;
+
+    private final Map<String, BitSet> slotsByNameToken = new HashMap<>();
+    private final Map<String, BitSet> slotsByRole = new HashMap<>();
+    private final TagDictionary tagDictionary = new TagDictionary();
+    private final List<BitSet> slotsByTagId = new ArrayList<>();
+
+    /**
+     * Gives {@code person} a slot and records it in every posting list it belongs to.
+     */
+    void add(Person person) {
+        int slot = freeSlots.isEmpty() ? personsBySlot.size() : freeSlots.nextSetBit(0);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+            freeSlots.clear(slot);
+        }
+        slotsByPerson.put(person, slot);
+        if (slot >= slotAssignedAt.length) {
+            slotAssignedAt = Arrays.copyOf(slotAssignedAt, slotAssignedAt.length * 2);
+        }
+        slotAssignedAt[slot] = ++assignmentCount;
+
+        for (String token : nameTokensOf(person)) {
+            slotsByNameToken.computeIfAbsent(token, unused -> new BitSet()).set(slot);
+        }
+        slotsByRole.computeIfAbsent(roleOf(person), unused -> new BitSet()).set(slot);
+        if (person instanceof Student student) {
+            for (Tag tag : student.getTags()) {
+                int tagId = tagDictionary.idOf(tag);
+                if (tagId == slotsByTagId.size()) {
+                    slotsByTagId.add(new BitSet());
+                }
+                slotsByTagId.get(tagId).set(slot);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from every posting list and frees its slot.
+     * {@code person} must be the same instance that was added.
+     */
+    void remove(Person person) {
+        Integer slot = slotsByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+        personsBySlot.set(slot, null);
+        freeSlots.set(slot);
+
+        for (String token : nameTokensOf(person)) {
+            clearSlot(slotsByNameToken, token, slot);
+        }
+        clearSlot(slotsByRole, roleOf(person), slot);
+        if (person instanceof Student student) {
+            for (Tag tag : student.getTags()) {
+                slotsByTagId.get(tagDictionary.idOf(tag)).clear(slot);
+            }
+        }
+    }
+
+    void clear() {
+        personsBySlot.clear();
+        slotsByPerson.clear();
+        freeSlots.clear();
+        slotsByNameToken.clear();
+        slotsByRole.clear();
+        tagDictionary.clear();
+        slotsByTagId.clear();
+    }
+
+    /**
+     * Returns the slots of the persons whose name contains any of {@code nameKeywords}, whose role is any of
+     * {@code roleKeywords} and who have any of {@code tagKeywords}.
+     * An empty list of keywords places no constraint on its field.
+     */
+    BitSet find(List<String> nameKeywords, List<String> roleKeywords, List<String> tagKeywords) {
+        BitSet matches = occupiedSlots();
+        if (!nameKeywords.isEmpty()) {
+            matches.and(unionOf(slotsByNameToken, nameKeywords));
+        }
+        if (!roleKeywords.isEmpty()) {
+            matches.and(unionOf(slotsByRole, roleKeywords));
+        }
+        if (!tagKeywords.isEmpty()) {
+            matches.and(unionOfTags(tagKeywords));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in {@code matches}.
+     * Persons given a slot after this call, by being added or edited, are tested against {@code fallback} instead,
+     * so that the predicate stays correct as the list changes.
+     */
+    Predicate<Person> toPredicate(BitSet matches, Predicate<Person> fallback) {
+        long asOf = assignmentCount;
+        return person -> {
+            Integer slot = slotsByPerson.get(person);
+            if (slot == null || slotAssignedAt[slot] > asOf) {
+                return fallback.test(person);
+            }
+            return matches.get(slot);
+        };
+    }
+
+    private BitSet occupiedSlots() {
+        BitSet occupied = new BitSet(personsBySlot.size());
+        occupied.set(0, personsBySlot.size());
+        occupied.andNot(freeSlots);
+        return occupied;
+    }
+
+    private static BitSet unionOf(Map<String, BitSet> postings, List<String> keywords) {
+        BitSet union = new BitSet();
+        for (String keyword : keywords) {
+            BitSet slots = postings.get(toKey(keyword.trim()));
+            if (slots != null) {
+                union.or(slots);
+            }
+        }
+        return union;
+    }
+
+    private BitSet unionOfTags(List<String> keywords) {
+        BitSet union = new BitSet();
+        for (String keyword : keywords) {
+            int tagId = tagDictionary.lookup(keyword.trim());
+            if (tagId != TagDictionary.NO_ID) {
+                union.or(slotsByTagId.get(tagId));
+            }
+        }
+        return union;
+    }
+
+    private static void clearSlot(Map<String, BitSet> postings, String key, int slot) {
+        BitSet slots = postings.get(key);
+        if (slots == null) {
+            return;
+        }
+        slots.clear(slot);
+        if (slots.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static String[] nameTokensOf(Person person) {
+        return toKey(person.getName().fullName).split("\\s+");
+    }
+
+    private static String roleOf(Person person) {
+        return toKey(person.getRole().role);
+    }
+
+    /**
+     * Folds each character of {@code value} the way {@code String#equalsIgnoreCase} compares it, as the keyword
+     * predicates do, so that the index matches the same persons as they do whatever the default locale.
+     */
+    private static String toKey(String value) {
+        StringBuilder key = new StringBuilder(value.length());
+        value.codePoints().forEach(codePoint ->
+                key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return key.toString();
+    }
+}
@@ -16,6 +16,10 @@ public class RoleContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     /**
      * Returns true if the keywords list is empty.
      * @return true if the keywords list is empty, false otherwise.
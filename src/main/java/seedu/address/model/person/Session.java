@@ -1,11 +1,23 @@
 package seedu.address.model.person;
 
+import java.time.DayOfWeek;
+
 /**
  * Represents a Person's session in the address book.
+ *
+ * <p>A session is also packed into a single int code holding its day, start minute and end minute, so that
+ * sessions can be stored, compared and checked for overlaps without any objects. Codes sort by day, then start,
+ * then end.</p>
  */
 public class Session {
-    private Day day;
-    private Time time;
+    private static final int MINUTE_BITS = 11;
+    private static final int MINUTE_MASK = (1 << MINUTE_BITS) - 1;
+    private static final int START_SHIFT = MINUTE_BITS;
+    private static final int DAY_SHIFT = 2 * MINUTE_BITS;
+
+    private final Day day;
+    private final Time time;
+    private final int code;
 
     /**
      * Constructs a {@code Session}.
@@ -19,6 +31,17 @@ public class Session {
         assert time != null;
         this.day = day;
         this.time = time;
+        this.code = toCode(day.getDayOfWeek(), time.getStartMinute(), time.getEndMinute());
+    }
+
+    /**
+     * Returns the session packed into {@code code}.
+     *
+     * @param code a code returned by {@link #toCode()}
+     * @return the session with the day and time held in the code
+     */
+    public static Session fromCode(int code) {
+        return new Session(Day.of(dayOf(code)), Time.of(startOf(code), endOf(code)));
     }
 
     /**
@@ -39,14 +62,51 @@ public class Session {
         return time;
     }
 
+    /**
+     * Returns this session packed into a single int.
+     */
+    public int toCode() {
+        return code;
+    }
+
     /**
      * Returns true if this session overlaps with another session on the same day.
      */
     public boolean isOverlap(Session other) {
-        if (!this.day.equals(other.day)) {
-            return false;
-        }
-        return this.time.isOverlap(other.time);
+        return isOverlap(this.code, other.code);
+    }
+
+    /**
+     * Returns true if the sessions packed into {@code code} and {@code otherCode} overlap on the same day.
+     */
+    public static boolean isOverlap(int code, int otherCode) {
+        return code >>> DAY_SHIFT == otherCode >>> DAY_SHIFT
+                && startOf(code) < endOf(otherCode) && endOf(code) > startOf(otherCode);
+    }
+
+    /**
+     * Returns the day of the session packed into {@code code}.
+     */
+    public static DayOfWeek dayOf(int code) {
+        return DayOfWeek.of((code >>> DAY_SHIFT) + 1);
+    }
+
+    /**
+     * Returns the start, in minutes since midnight, of the session packed into {@code code}.
+     */
+    public static int startOf(int code) {
+        return (code >>> START_SHIFT) & MINUTE_MASK;
+    }
+
+    /**
+     * Returns the end, in minutes since midnight, of the session packed into {@code code}.
+     */
+    public static int endOf(int code) {
+        return code & MINUTE_MASK;
+    }
+
+    private static int toCode(DayOfWeek day, int startMinute, int endMinute) {
+        return day.ordinal() << DAY_SHIFT | startMinute << START_SHIFT | endMinute;
     }
 
     /**
@@ -72,13 +132,11 @@ public class Session {
         }
 
         Session otherSession = (Session) other;
-        return day.equals(otherSession.day) && time.equals(otherSession.time);
+        return code == otherSession.code;
     }
 
     @Override
     public int hashCode() {
-        int result = day != null ? day.hashCode() : 0;
-        result = 31 * result + (time != null ? time.hashCode() : 0);
-        return result;
+        return code;
     }
 }
@@ -1,7 +1,10 @@
 package seedu.address.model.person;
 
+import java.time.DayOfWeek;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -13,8 +16,12 @@ import seedu.address.model.tag.Tag;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Student extends Person {
-    protected final Set<Session> sessions;
+    // Codes of the sessions, as given by Session#toCode, sorted and without duplicates
+    protected final int[] sessions;
+    // Sessions of the codes, built on first use as codes are never changed once set
+    private Set<Session> unmodifiableSessions;
     private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> unmodifiableTags = Collections.unmodifiableSet(tags);
 
     // Allow parent to be null
     private Parent myParent = null; // Mark as transient if needed in the future
@@ -32,7 +39,7 @@ public class Student extends Person {
     public Student(Name name, Phone phone, Address address, Remark remark, Set<Tag> tags) {
         super(name, phone, address, Role.STUDENT_ROLE, remark);
         this.tags.addAll(tags);
-        this.sessions = new HashSet<>();
+        this.sessions = new int[0];
     }
 
     /**
@@ -49,7 +56,7 @@ public class Student extends Person {
     public Student(Name name, Phone phone, Address address, Remark remark, Set<Tag> tags, Set<Session> sessions) {
         super(name, phone, address, Role.STUDENT_ROLE, remark);
         this.tags.addAll(tags);
-        this.sessions = sessions;
+        this.sessions = toCodes(sessions);
     }
 
     /**
@@ -68,7 +75,7 @@ public class Student extends Person {
             Set<Session> sessions, Name parentName) {
         super(name, phone, address, Role.STUDENT_ROLE, remark);
         this.tags.addAll(tags);
-        this.sessions = sessions;
+        this.sessions = toCodes(sessions);
         this.parentName = parentName;
     }
 
@@ -79,7 +86,21 @@ public class Student extends Person {
      */
     public Student(Name name) {
         super(name, Role.STUDENT_ROLE);
-        this.sessions = new HashSet<>();
+        this.sessions = new int[0];
+    }
+
+    private Student(Student original) {
+        super(original.name, original.phone, original.address, Role.STUDENT_ROLE, original.remark);
+        this.tags.addAll(original.tags);
+        // Session codes are never changed once set, so they can be shared
+        this.sessions = original.sessions;
+        this.unmodifiableSessions = original.unmodifiableSessions;
+        this.parentName = original.parentName;
+    }
+
+    @Override
+    public Student copy() {
+        return new Student(this);
     }
 
     /**
@@ -87,19 +108,47 @@ public class Student extends Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return unmodifiableTags;
     }
 
     /**
      * Returns an immutable session set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
+     * The sessions are ordered by day, then start time.
      */
     public Set<Session> getSessions() {
-        return Collections.unmodifiableSet(sessions);
+        if (unmodifiableSessions == null) {
+            Set<Session> sessionSet = new LinkedHashSet<>();
+            for (int code : sessions) {
+                sessionSet.add(Session.fromCode(code));
+            }
+            unmodifiableSessions = Collections.unmodifiableSet(sessionSet);
+        }
+        return unmodifiableSessions;
+    }
+
+    /**
+     * Returns the codes of the sessions, as given by {@link Session#toCode()}, in ascending order.
+     */
+    public int[] getSessionCodes() {
+        return sessions.clone();
     }
 
     public boolean hasSession(Session session) {
-        return this.sessions.contains(session);
+        return Arrays.binarySearch(sessions, session.toCode()) >= 0;
+    }
+
+    /**
+     * Returns the start, in minutes since midnight, of the earliest session on {@code day}, or -1 if there is none.
+     */
+    public int getEarliestStartOn(DayOfWeek day) {
+        // Codes are ordered by day and then by start, so the first code of the day starts earliest
+        for (int code : sessions) {
+            if (Session.dayOf(code) == day) {
+                return Session.startOf(code);
+            }
+        }
+        return -1;
     }
 
     public boolean hasParent() {
@@ -148,6 +197,10 @@ public class Student extends Person {
         return Objects.hash(name, phone, address, role, remark, tags);
     }
 
+    private static int[] toCodes(Set<Session> sessions) {
+        return sessions.stream().mapToInt(Session::toCode).sorted().distinct().toArray();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
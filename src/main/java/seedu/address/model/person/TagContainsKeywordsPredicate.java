@@ -1,10 +1,13 @@
 package seedu.address.model.person;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
 
 
 /**
@@ -13,9 +16,21 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class TagContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Set<String> tagNames = new HashSet<>();
 
+    /**
+     * Creates a predicate matching students with a tag named by any of {@code keywords}.
+     * Tag names are single lower-case words, so each keyword is matched against them as a whole tag name.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            tagNames.add(keyword.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     /**
@@ -38,9 +53,12 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
             return false;
         }
 
-        return keywords.stream()
-                .anyMatch(keyword -> student.getTags().stream()
-                        .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword)));
+        for (Tag tag : student.getTags()) {
+            if (tagNames.contains(tag.tagName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a time in 12-hour format with an optional minute component and AM/PM.
  *
@@ -11,6 +13,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  *
  * <p>Hours must be between 1 and 12, and minutes, if present, must be between 00 and 59.</p>
  * <p>Start time must be earlier than end time.</p>
+ *
+ * <p>Two times are equal if they start and end at the same minute, however they are written.</p>
  */
 public class Time {
     public static final String MESSAGE_CONSTRAINTS =
@@ -19,6 +23,7 @@ public class Time {
 
     public static final String VALIDATION_REGEX =
             "^([1-9]|1[0-2])(:[0-5][0-9])?(am|pm|AM|PM)-([1-9]|1[0-2])(:[0-5][0-9])?(am|pm|AM|PM)$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
 
     private final String value;
@@ -32,8 +37,14 @@ public class Time {
      *
      */
     public Time(String time) {
+        this(time, true);
+    }
+
+    private Time(String time, boolean isChecked) {
         requireNonNull(time);
-        checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
+        }
 
         String[] timeParts = time.split("-");
         int startMinutes = toMinutes(timeParts[0]);
@@ -43,6 +54,29 @@ public class Time {
         this.endTime = endMinutes;
     }
 
+    private Time(int startMinutes, int endMinutes) {
+        this.value = toClock(startMinutes) + "-" + toClock(endMinutes);
+        this.startTime = startMinutes;
+        this.endTime = endMinutes;
+    }
+
+    /**
+     * Returns the {@code Time} running from {@code startMinutes} to {@code endMinutes} after midnight,
+     * written in the shortest 12-hour form, e.g. "3pm-4:30pm".
+     */
+    public static Time of(int startMinutes, int endMinutes) {
+        checkArgument(0 <= startMinutes && startMinutes < endMinutes && endMinutes < 24 * 60, MESSAGE_CONSTRAINTS);
+        return new Time(startMinutes, endMinutes);
+    }
+
+    /**
+     * Returns a {@code Time} of {@code time} without checking that it is valid, for a time already known to be
+     * valid, such as one read back from a data file exactly as the app wrote it.
+     */
+    public static Time ofTrusted(String time) {
+        return new Time(time, false);
+    }
+
     /**
      * Returns the string value of this object.
      *
@@ -52,11 +86,25 @@ public class Time {
         return value;
     }
 
+    /**
+     * Returns the start of this time as minutes since midnight.
+     */
+    public int getStartMinute() {
+        return startTime;
+    }
+
+    /**
+     * Returns the end of this time as minutes since midnight.
+     */
+    public int getEndMinute() {
+        return endTime;
+    }
+
     /**
     * Returns true if a given string is a valid time.
     */
     public static boolean isValidTime(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
             return false;
         }
 
@@ -79,7 +127,8 @@ public class Time {
     private static int toMinutes(String input) {
         String time = input.toLowerCase();
         boolean isPm = time.endsWith("pm");
-        String updatedTime = time.replaceAll("(?i)(am|pm)", "");
+        // The time has been validated, so it ends in "am" or "pm"
+        String updatedTime = time.substring(0, time.length() - 2);
 
         String[] parts = updatedTime.split(":");
         int hour = Integer.parseInt(parts[0]);
@@ -99,6 +148,19 @@ public class Time {
         return hour * 60 + minute;
     }
 
+    /**
+     * Converts minutes since midnight to a 12-hour time such as "12am" or "9:30pm".
+     */
+    private static String toClock(int minutes) {
+        int hour = minutes / 60 % 12 == 0 ? 12 : minutes / 60 % 12;
+        String suffix = minutes < 12 * 60 ? "am" : "pm";
+        int minute = minutes % 60;
+        if (minute == 0) {
+            return hour + suffix;
+        }
+        return hour + (minute < 10 ? ":0" : ":") + minute + suffix;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -116,11 +178,11 @@ public class Time {
         }
 
         Time otherTime = (Time) other;
-        return value.equals(otherTime.value);
+        return startTime == otherTime.startTime && endTime == otherTime.endTime;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return startTime * 24 * 60 + endTime;
     }
 }
@@ -3,14 +3,26 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.session.ScheduleIndex;
+import seedu.address.model.session.SessionConflict;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +31,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks, parent-student links, find queries and session schedules are answered from indexes, which are
+ * kept in sync with the list. The indexes are updated before the list itself, so that listeners of the list, such as
+ * a filtered view whose predicate reads an index, see them already up to date.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,24 +45,47 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Every person in internalList, keyed on the fields compared by Person#isSamePerson
+    private final Map<PersonIdentity, Person> identityIndex = new HashMap<>();
+
+    // Parents in internalList, keyed on their name
+    private final Map<Name, Parent> parentsByName = new HashMap<>();
+
+    // Students in internalList, keyed on the name of their parent, whether or not that parent is in the list
+    private final Map<Name, Set<Student>> studentsByParentName = new HashMap<>();
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    private final ScheduleIndex scheduleIndex = new ScheduleIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(PersonIdentity.of(toCheck));
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
+     * A Student is linked to its Parent, and a Parent to the Students that name it, if they are in the list.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
         internalList.add(toAdd);
+
+        if (toAdd instanceof Student student) {
+            resolveParentLink(student);
+        } else if (toAdd instanceof Parent parent) {
+            for (Student child : studentsByParentName.getOrDefault(parent.getName(), Set.of())) {
+                link(child, parent);
+            }
+        }
     }
 
     /**
@@ -66,23 +105,44 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
-
         // Since person is directly replaced, we need to
         // destroy the old links of the old object
         // and recreate it with the new object
         if (target instanceof Student student) {
-            Student editedStudent = (Student) editedPerson;
             destroyParentLink(student);
-            resolveParentLink(editedStudent);
+        }
+        unindex(internalList.get(index));
+        index(editedPerson);
+        internalList.set(index, editedPerson);
+
+        if (target instanceof Student) {
+            resolveParentLink((Student) editedPerson);
         } else if (target instanceof Parent parent) {
-            Parent editedParent = (Parent) editedPerson;
-            Set<Student> children = parent.getChildren();
-            for (Student child : children) {
-                // Just directly overwrite the old parent name and link to the new one
-                child.setParentName(editedParent.getName());
-                resolveParentLink(child);
+            relinkChildren(parent, (Parent) editedPerson);
+        }
+    }
+
+    /**
+     * Moves every child of {@code parent} over to {@code editedParent}, replacing each child in the list with a copy
+     * naming {@code editedParent}, so that a person saved elsewhere, such as by a background save, is never changed.
+     * Students already naming {@code editedParent} are linked to it as well.
+     */
+    private void relinkChildren(Parent parent, Parent editedParent) {
+        Name editedName = editedParent.getName();
+        List<Student> children = new ArrayList<>(studentsByParentName.getOrDefault(parent.getName(), Set.of()));
+        for (Student child : children) {
+            if (child.getParentName().fullName.equals(editedName.fullName)) {
+                continue;
             }
+            Student renamedChild = child.copy();
+            renamedChild.setParentName(editedName);
+            unindex(child);
+            index(renamedChild);
+            internalList.set(internalList.indexOf(child), renamedChild);
+        }
+
+        for (Student child : studentsByParentName.getOrDefault(editedName, Set.of())) {
+            link(child, editedParent);
         }
     }
 
@@ -96,20 +156,14 @@ public class UniquePersonList implements Iterable<Person> {
         if (!student.hasParent()) {
             return;
         }
-        Name parentName = student.getParentName();
-        internalList.stream()
-                .filter(p -> p instanceof Parent)
-                .filter(p -> p.getName().equals(parentName))
-                .findFirst()
-                .ifPresent(p -> {
-                    Parent parent = (Parent) p;
-                    student.setParent(parent);
-                    parent.addChild(student);
-                });
+        Parent parent = parentsByName.get(student.getParentName());
+        if (parent != null) {
+            link(student, parent);
+        }
     }
 
     /**
-     * Links a given Student to its specified Parent in the list.
+     * Unlinks a given Student from its specified Parent in the list.
      *
      * @param student
      */
@@ -118,16 +172,11 @@ public class UniquePersonList implements Iterable<Person> {
         if (!student.hasParent()) {
             return;
         }
-        Name parentName = student.getParentName();
-        internalList.stream()
-                .filter(p -> p instanceof Parent)
-                .filter(p -> p.getName().equals(parentName))
-                .findFirst()
-                .ifPresent(p -> {
-                    Parent parent = (Parent) p;
-                    student.setParent(null);
-                    parent.removeChild(student);
-                });
+        Parent parent = parentsByName.get(student.getParentName());
+        if (parent != null) {
+            student.setParent(null);
+            parent.removeChild(student);
+        }
     }
 
     /**
@@ -135,26 +184,99 @@ public class UniquePersonList implements Iterable<Person> {
      * Used when loading data from the JSON file.
      */
     public void resolveAllParentLinks() {
-        internalList.stream()
-                .filter(p -> p instanceof Student)
-                .map(p -> (Student) p)
-                .filter(Student::hasParent)
-                .forEach(this::resolveParentLink);
+        for (Map.Entry<Name, Set<Student>> entry : studentsByParentName.entrySet()) {
+            Parent parent = parentsByName.get(entry.getKey());
+            if (parent == null) {
+                continue;
+            }
+            for (Student student : entry.getValue()) {
+                link(student, parent);
+            }
+        }
+    }
+
+    /**
+     * Returns a predicate matching the persons that satisfy every non-empty predicate given.
+     * Persons in the list are matched through the search index rather than by testing each predicate.
+     */
+    public Predicate<Person> find(NameContainsKeywordsPredicate namePredicate,
+            RoleContainsKeywordsPredicate rolePredicate, TagContainsKeywordsPredicate tagPredicate) {
+        requireAllNonNull(namePredicate, rolePredicate, tagPredicate);
+        Predicate<Person> predicate = person -> true;
+        if (!namePredicate.isEmpty()) {
+            predicate = predicate.and(namePredicate);
+        }
+        if (!rolePredicate.isEmpty()) {
+            predicate = predicate.and(rolePredicate);
+        }
+        if (!tagPredicate.isEmpty()) {
+            predicate = predicate.and(tagPredicate);
+        }
+        BitSet matches = searchIndex.find(namePredicate.getKeywords(), rolePredicate.getKeywords(),
+                tagPredicate.getKeywords());
+        return searchIndex.toPredicate(matches, predicate);
+    }
+
+    /**
+     * Returns the persons with at least one session on {@code day}, ordered by their earliest start that day and
+     * then by name.
+     */
+    public List<Person> getPersonsWithSessionsOn(DayOfWeek day) {
+        requireNonNull(day);
+        return scheduleIndex.getPersonsOn(day);
+    }
+
+    /**
+     * Returns the persons with a session overlapping {@code session}.
+     */
+    public List<Person> getPersonsWithSessionsOverlapping(Session session) {
+        requireNonNull(session);
+        return scheduleIndex.getPersonsOverlapping(session);
+    }
+
+    /**
+     * Returns every pair of overlapping sessions of different persons in the list.
+     */
+    public List<SessionConflict> getSessionConflicts() {
+        return scheduleIndex.getConflicts();
+    }
+
+    /**
+     * Returns the stretches of at least {@code minLength} minutes within {@code window} on {@code day} in which
+     * no session of a person in the list is running.
+     */
+    public List<Time> getFreeSlots(DayOfWeek day, Time window, int minLength) {
+        requireAllNonNull(day, window);
+        return scheduleIndex.getFreeSlots(day, window, minLength);
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     * A removed Student is unlinked from its Parent, and the Students of a removed Parent are left without one.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.get(index);
+        unindex(removed);
+        internalList.remove(index);
+        if (removed instanceof Student student) {
+            destroyParentLink(student);
+        } else if (removed instanceof Parent) {
+            for (Student child : studentsByParentName.getOrDefault(removed.getName(), Set.of())) {
+                child.setParent(null);
+            }
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        clearIndexes();
+        replacement.internalList.forEach(this::index);
         internalList.setAll(replacement.internalList);
     }
 
@@ -168,9 +290,109 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        clearIndexes();
+        persons.forEach(this::index);
         internalList.setAll(persons);
     }
 
+    /**
+     * Updates this list to hold {@code persons}, matching persons by identity and adding, replacing and removing
+     * only those that differ, so that the persons unchanged stay where they are in the list.
+     * Persons added go at the end of the list, in the order of {@code persons}. Parents and students are linked
+     * afresh afterwards, as {@code persons} may be linked to persons outside this list.
+     * {@code persons} must not contain duplicate persons.
+     *
+     * @return true if any person was added, replaced or removed.
+     */
+    public boolean mergePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!personsAreUnique(persons)) {
+            throw new DuplicatePersonException();
+        }
+
+        Map<PersonIdentity, Person> incoming = new LinkedHashMap<>();
+        for (Person person : persons) {
+            incoming.put(PersonIdentity.of(person), person);
+        }
+
+        List<Person> removed = new ArrayList<>();
+        for (Person person : internalList) {
+            if (!incoming.containsKey(PersonIdentity.of(person))) {
+                removed.add(person);
+            }
+        }
+        if (!removed.isEmpty()) {
+            Set<PersonIdentity> removedIdentities = new HashSet<>();
+            removed.forEach(person -> removedIdentities.add(PersonIdentity.of(person)));
+            removed.forEach(this::unindex);
+            internalList.removeIf(person -> removedIdentities.contains(PersonIdentity.of(person)));
+        }
+
+        boolean isReplaced = false;
+        for (int i = 0; i < internalList.size(); i++) {
+            Person current = internalList.get(i);
+            Person edited = incoming.remove(PersonIdentity.of(current));
+            if (!hasSameFields(current, edited)) {
+                unindex(current);
+                index(edited);
+                internalList.set(i, edited);
+                isReplaced = true;
+            }
+        }
+
+        // Only the persons matching no person in this list are left
+        List<Person> added = new ArrayList<>(incoming.values());
+        if (!added.isEmpty()) {
+            added.forEach(this::index);
+            internalList.addAll(added);
+        }
+
+        if (removed.isEmpty() && !isReplaced && added.isEmpty()) {
+            return false;
+        }
+        relinkAll();
+        return true;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, changing only the stretch from the first to the last
+     * position that does not hold the same instance in both, so that the persons around it are neither replaced nor
+     * reported as changed. Parents and students are linked afresh afterwards.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void replaceChangedPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!personsAreUnique(persons)) {
+            throw new DuplicatePersonException();
+        }
+
+        int commonSize = Math.min(internalList.size(), persons.size());
+        int unchangedStart = 0;
+        while (unchangedStart < commonSize && internalList.get(unchangedStart) == persons.get(unchangedStart)) {
+            unchangedStart++;
+        }
+        int unchangedEnd = 0;
+        while (unchangedEnd < commonSize - unchangedStart
+                && internalList.get(internalList.size() - 1 - unchangedEnd)
+                        == persons.get(persons.size() - 1 - unchangedEnd)) {
+            unchangedEnd++;
+        }
+
+        int removedEnd = internalList.size() - unchangedEnd;
+        List<Person> added = persons.subList(unchangedStart, persons.size() - unchangedEnd);
+        // Every person removed is unindexed before any is indexed, as a person may be removed and added back
+        internalList.subList(unchangedStart, removedEnd).forEach(this::unindex);
+        added.forEach(this::index);
+        if (removedEnd > unchangedStart) {
+            internalList.remove(unchangedStart, removedEnd);
+        }
+        if (!added.isEmpty()) {
+            internalList.addAll(unchangedStart, added);
+        }
+
+        relinkAll();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -209,16 +431,93 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Records {@code person} in every index.
+     */
+    private void index(Person person) {
+        identityIndex.put(PersonIdentity.of(person), person);
+        searchIndex.add(person);
+        scheduleIndex.add(person);
+        if (person instanceof Parent parent) {
+            parentsByName.put(parent.getName(), parent);
+        } else if (person instanceof Student student && student.hasParent()) {
+            studentsByParentName.computeIfAbsent(student.getParentName(), unused -> new HashSet<>()).add(student);
+        }
+    }
+
+    /**
+     * Removes {@code person} from every index.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private void unindex(Person person) {
+        identityIndex.remove(PersonIdentity.of(person));
+        searchIndex.remove(person);
+        scheduleIndex.remove(person);
+        if (person instanceof Parent parent) {
+            parentsByName.remove(parent.getName());
+        } else if (person instanceof Student student && student.hasParent()) {
+            Set<Student> siblings = studentsByParentName.get(student.getParentName());
+            if (siblings != null) {
+                siblings.remove(student);
+                if (siblings.isEmpty()) {
+                    studentsByParentName.remove(student.getParentName());
                 }
             }
         }
+    }
+
+    private void clearIndexes() {
+        identityIndex.clear();
+        parentsByName.clear();
+        studentsByParentName.clear();
+        searchIndex.clear();
+        scheduleIndex.clear();
+    }
+
+    /**
+     * Drops every link between parents and students in the list, and links them again.
+     */
+    private void relinkAll() {
+        for (Person person : internalList) {
+            if (person instanceof Student student) {
+                student.setParent(null);
+            } else if (person instanceof Parent parent) {
+                parent.getChildren().forEach(parent::removeChild);
+            }
+        }
+        resolveAllParentLinks();
+    }
+
+    private static void link(Student student, Parent parent) {
+        student.setParent(parent);
+        parent.addChild(student);
+    }
+
+    /**
+     * Returns true if {@code person} and {@code other} have the same fields, down to the case of their names and
+     * the fields that {@code Person#equals} does not compare.
+     */
+    private static boolean hasSameFields(Person person, Person other) {
+        if (!person.equals(other) || !person.getName().fullName.equals(other.getName().fullName)
+                || !person.getRemark().equals(other.getRemark())) {
+            return false;
+        }
+        if (person instanceof Student student && other instanceof Student otherStudent) {
+            return student.getTags().equals(otherStudent.getTags())
+                    && Arrays.equals(student.getSessionCodes(), otherStudent.getSessionCodes())
+                    && Objects.equals(student.getParentName(), otherStudent.getParentName());
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code persons} contains only unique persons.
+     */
+    private static boolean personsAreUnique(List<Person> persons) {
+        Set<PersonIdentity> identities = new HashSet<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (!identities.add(PersonIdentity.of(person))) {
+                return false;
+            }
+        }
         return true;
     }
 }
@@ -0,0 +1,249 @@
+package seedu.address.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+
+/**
+ * Weekly schedule of the sessions of the students in an address book, bucketed by day.
+ * Each day holds one (start minute, end minute, person) entry per session in start order, so that a day's schedule
+ * is read without parsing or sorting session times.
+ * The entries of a day also serve as an interval index: no session on a day is longer than the longest one added to
+ * it, so the sessions overlapping a given time all start within that distance before its end.
+ * Each day also keeps a bitset of its minutes that some session is running in, so that free time is found by
+ * jumping between set and clear bits instead of by looking at sessions.
+ */
+public class ScheduleIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final Comparator<Person> PERSON_ORDER = Comparator.<Person, String>comparing(
+            person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(person -> person.getRole().role);
+
+    // Entries without a person sort before every entry with the same start, and are only used as search bounds
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.comparingInt(Entry::startMinute)
+            .thenComparing(Entry::person, Comparator.nullsFirst(PERSON_ORDER))
+            .thenComparingInt(Entry::endMinute);
+
+    private final Map<DayOfWeek, TreeSet<Entry>> entriesByDay = new EnumMap<>(DayOfWeek.class);
+
+    // Length in minutes of the longest session added to each day since the index was last cleared
+    private final Map<DayOfWeek, Integer> longestSessionByDay = new EnumMap<>(DayOfWeek.class);
+
+    // Number of sessions running in each minute of each day, and the minutes where that number is non-zero
+    private final Map<DayOfWeek, int[]> sessionCountsByDay = new EnumMap<>(DayOfWeek.class);
+    private final Map<DayOfWeek, BitSet> occupiedMinutesByDay = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Creates an empty schedule.
+     */
+    public ScheduleIndex() {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            entriesByDay.put(day, new TreeSet<>(ENTRY_ORDER));
+            longestSessionByDay.put(day, 0);
+            sessionCountsByDay.put(day, new int[MINUTES_PER_DAY]);
+            occupiedMinutesByDay.put(day, new BitSet(MINUTES_PER_DAY));
+        }
+    }
+
+    /**
+     * Adds an entry for every session of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (person instanceof Student student) {
+            for (int code : student.getSessionCodes()) {
+                addEntry(Session.dayOf(code), Session.startOf(code), Session.endOf(code), person);
+            }
+        }
+    }
+
+    /**
+     * Removes the entries of every session of {@code person}.
+     * {@code person} must be the same instance that was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (person instanceof Student student) {
+            for (int code : student.getSessionCodes()) {
+                removeEntry(Session.dayOf(code), Session.startOf(code), Session.endOf(code), person);
+            }
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        entriesByDay.values().forEach(TreeSet::clear);
+        longestSessionByDay.replaceAll((day, length) -> 0);
+        sessionCountsByDay.values().forEach(counts -> Arrays.fill(counts, 0));
+        occupiedMinutesByDay.values().forEach(BitSet::clear);
+    }
+
+    /**
+     * Returns the persons with at least one session on {@code day}, ordered by their earliest start that day and
+     * then by name.
+     */
+    public List<Person> getPersonsOn(DayOfWeek day) {
+        requireNonNull(day);
+        // Entries are in start order, so the first entry of each person is at its earliest start
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> ordered = new ArrayList<>();
+        for (Entry entry : entriesByDay.get(day)) {
+            if (persons.add(entry.person())) {
+                ordered.add(entry.person());
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Returns true if {@code person} has at least one session on {@code day}, and so is listed by
+     * {@link #getPersonsOn(DayOfWeek)}.
+     */
+    public static boolean hasSessionOn(Person person, DayOfWeek day) {
+        return person instanceof Student student && student.getEarliestStartOn(day) >= 0;
+    }
+
+    /**
+     * Returns the order in which {@link #getPersonsOn(DayOfWeek)} lists the persons with a session on {@code day}.
+     */
+    public static Comparator<Person> orderOn(DayOfWeek day) {
+        requireNonNull(day);
+        return Comparator.comparingInt((Person person) -> ((Student) person).getEarliestStartOn(day))
+                .thenComparing(PERSON_ORDER);
+    }
+
+    /**
+     * Returns the persons with a session overlapping {@code session}, in order of the start of that session.
+     * A person with several such sessions is listed once.
+     */
+    public List<Person> getPersonsOverlapping(Session session) {
+        requireNonNull(session);
+        DayOfWeek day = session.getDay().getDayOfWeek();
+        int start = session.getTime().getStartMinute();
+        int end = session.getTime().getEndMinute();
+
+        int earliestOverlappingStart = start - longestSessionByDay.get(day) + 1;
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> ordered = new ArrayList<>();
+        for (Entry entry : entriesByDay.get(day).subSet(bound(earliestOverlappingStart), bound(end))) {
+            if (entry.endMinute() > start && persons.add(entry.person())) {
+                ordered.add(entry.person());
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Returns every pair of overlapping sessions that belong to different persons, ordered by day and then by the
+     * start of the later session in the pair.
+     * Each day is swept once in start order, keeping the sessions still running in a queue ordered by end.
+     */
+    public List<SessionConflict> getConflicts() {
+        List<SessionConflict> conflicts = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            PriorityQueue<Entry> running = new PriorityQueue<>(Comparator.comparingInt(Entry::endMinute));
+            for (Entry entry : entriesByDay.get(day)) {
+                while (!running.isEmpty() && running.peek().endMinute() <= entry.startMinute()) {
+                    running.poll();
+                }
+                for (Entry other : running) {
+                    if (other.person() != entry.person()) {
+                        conflicts.add(new SessionConflict(other.person(), toSession(day, other),
+                                entry.person(), toSession(day, entry)));
+                    }
+                }
+                running.add(entry);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns the stretches of at least {@code minLength} minutes within {@code window} on {@code day} in which no
+     * session is running, in order of start.
+     */
+    public List<Time> getFreeSlots(DayOfWeek day, Time window, int minLength) {
+        requireNonNull(day);
+        requireNonNull(window);
+        BitSet occupied = occupiedMinutesByDay.get(day);
+        int windowEnd = window.getEndMinute();
+
+        List<Time> freeSlots = new ArrayList<>();
+        int freeStart = occupied.nextClearBit(window.getStartMinute());
+        while (freeStart < windowEnd) {
+            int nextOccupied = occupied.nextSetBit(freeStart);
+            int freeEnd = nextOccupied == -1 ? windowEnd : Math.min(nextOccupied, windowEnd);
+            if (freeEnd - freeStart >= minLength) {
+                freeSlots.add(Time.of(freeStart, freeEnd));
+            }
+            if (freeEnd == windowEnd) {
+                break;
+            }
+            freeStart = occupied.nextClearBit(freeEnd);
+        }
+        return freeSlots;
+    }
+
+    private void addEntry(DayOfWeek day, int startMinute, int endMinute, Person person) {
+        entriesByDay.get(day).add(new Entry(startMinute, endMinute, person));
+        longestSessionByDay.merge(day, endMinute - startMinute, Math::max);
+
+        int[] counts = sessionCountsByDay.get(day);
+        BitSet occupied = occupiedMinutesByDay.get(day);
+        for (int minute = startMinute; minute < endMinute; minute++) {
+            if (counts[minute]++ == 0) {
+                occupied.set(minute);
+            }
+        }
+    }
+
+    private void removeEntry(DayOfWeek day, int startMinute, int endMinute, Person person) {
+        if (!entriesByDay.get(day).remove(new Entry(startMinute, endMinute, person))) {
+            return;
+        }
+
+        int[] counts = sessionCountsByDay.get(day);
+        BitSet occupied = occupiedMinutesByDay.get(day);
+        for (int minute = startMinute; minute < endMinute; minute++) {
+            if (--counts[minute] == 0) {
+                occupied.clear(minute);
+            }
+        }
+    }
+
+    private static Entry bound(int startMinute) {
+        return new Entry(startMinute, 0, null);
+    }
+
+    private static Session toSession(DayOfWeek day, Entry entry) {
+        return new Session(Day.of(day), Time.of(entry.startMinute(), entry.endMinute()));
+    }
+
+    /**
+     * A session of {@code person} running from {@code startMinute} to {@code endMinute} minutes after midnight.
+     */
+    private record Entry(int startMinute, int endMinute, Person person) {
+    }
+}
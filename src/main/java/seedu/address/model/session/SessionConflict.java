@@ -0,0 +1,16 @@
+package seedu.address.model.session;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+
+/**
+ * Two overlapping sessions that belong to different persons.
+ * The first session starts no later than the second.
+ */
+public record SessionConflict(Person first, Session firstSession, Person second, Session secondSession) {
+
+    @Override
+    public String toString() {
+        return first.getName() + " " + firstSession + " and " + second.getName() + " " + secondSession;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -11,6 +13,7 @@ public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}]+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String tagName;
 
@@ -20,17 +23,31 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, true);
+    }
+
+    private Tag(String tagName, boolean isChecked) {
         requireNonNull(tagName);
         tagName = tagName.toLowerCase();
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} of {@code tagName} without checking that it is valid, for a tag name already known to be
+     * valid, such as one read back from a data file exactly as the app wrote it.
+     */
+    public static Tag ofTrusted(String tagName) {
+        return new Tag(tagName, false);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
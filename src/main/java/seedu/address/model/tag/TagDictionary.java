@@ -0,0 +1,58 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Assigns each distinct {@code Tag} a small int id, so that tags can be used as array indexes.
+ * Ids are handed out in order from 0 and are never reused until the dictionary is cleared.
+ */
+public class TagDictionary {
+
+    /** Id returned by {@link #lookup(String)} for a tag name that has no id. */
+    public static final int NO_ID = -1;
+
+    private final Map<String, Integer> idsByTagName = new HashMap<>();
+    private final List<Tag> tagsById = new ArrayList<>();
+
+    /**
+     * Returns the id of {@code tag}, assigning it the next free id if it has none yet.
+     */
+    public int idOf(Tag tag) {
+        requireNonNull(tag);
+        Integer id = idsByTagName.get(tag.tagName);
+        if (id == null) {
+            id = tagsById.size();
+            idsByTagName.put(tag.tagName, id);
+            tagsById.add(tag);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of the tag named {@code tagName}, or {@link #NO_ID} if it has none.
+     * The lookup is case-insensitive, as tag names are stored in lower case, and does not depend on the default locale.
+     */
+    public int lookup(String tagName) {
+        requireNonNull(tagName);
+        return idsByTagName.getOrDefault(tagName.toLowerCase(Locale.ROOT), NO_ID);
+    }
+
+    public Tag getTag(int id) {
+        return tagsById.get(id);
+    }
+
+    public int size() {
+        return tagsById.size();
+    }
+
+    public void clear() {
+        idsByTagName.clear();
+        tagsById.clear();
+    }
+}
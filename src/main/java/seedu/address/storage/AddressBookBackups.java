@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps backups of recent versions of an address book in a folder next to its data file, without copying the whole
+ * address book each time it is saved.
+ * <p>
+ * The backups are kept in chains. A chain starts with a base, a gzip-compressed copy of the whole address book,
+ * followed by a journal holding one {@link JsonAdaptedJournalRecord} per later version, with only the persons changed
+ * since the version before. A new chain is started the first time the address book is backed up after the app
+ * starts, and once the journal of the current chain takes up as much space as its base or holds
+ * {@link #MAX_VERSIONS_PER_BASE} versions, so that a whole copy is written only once as much has been written in
+ * changes, and restoring a version never replays a long journal.
+ * </p><p>
+ * Each version is known by the time it was backed up, in milliseconds since the epoch. A version is restored by
+ * reading the base of its chain and replaying its journal up to the version. Pruning deletes all but the newest
+ * chains.
+ * </p>
+ * Meant to be used from a single thread.
+ */
+public class AddressBookBackups {
+
+    public static final String BACKUPS_FOLDER_EXTENSION = ".backups";
+    public static final int DEFAULT_MAX_BASES = 10;
+
+    static final int MAX_VERSIONS_PER_BASE = 50;
+
+    private static final String BASE_FILE_PREFIX = "base-";
+    private static final String BASE_FILE_SUFFIX = ".json" + FileUtil.GZIP_EXTENSION;
+    private static final Pattern BASE_FILE_PATTERN = Pattern.compile("base-(\\d{1,18})\\.json\\.gz");
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookBackups.class);
+
+    private final Path folder;
+    private final int maxBases;
+
+    // The base of the current chain, its size and journal, and the persons last backed up, or null if no chain has
+    // been started since the app started
+    private long baseVersion;
+    private long baseSize;
+    private JsonAddressBookJournal journal;
+    private SavedPersons savedPersons;
+    private long lastVersion;
+
+    /**
+     * Creates the backups kept in {@code folder}, of which the newest {@code maxBases} chains are kept when pruned.
+     */
+    public AddressBookBackups(Path folder, int maxBases) {
+        requireNonNull(folder);
+        assert maxBases > 0;
+        this.folder = folder;
+        this.maxBases = maxBases;
+    }
+
+    /**
+     * Returns the folder of the backups of the data file at {@code dataFilePath}.
+     */
+    public static Path pathOf(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + BACKUPS_FOLDER_EXTENSION);
+    }
+
+    /**
+     * Backs up {@code addressBook} as a new version, unless it is the same as the version last backed up.
+     *
+     * @throws IOException if the backup could not be written, in which case the next backup starts a new chain.
+     */
+    void backUp(ReadOnlyAddressBook addressBook) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        if (savedPersons == null) {
+            // Versions must be told apart from those kept before the app started, whatever the clock says
+            lastVersion = Math.max(lastVersion, readNewestVersion());
+        }
+        long version = Math.max(lastVersion + 1, System.currentTimeMillis());
+
+        if (savedPersons == null || isChainFull()) {
+            writeBase(persons, version);
+        } else {
+            Optional<JsonAdaptedJournalRecord> record =
+                    JsonAdaptedJournalRecord.ofChange(baseVersion, version, savedPersons, persons);
+            if (record.isEmpty()) {
+                return;
+            }
+            try {
+                journal.append(record.get());
+            } catch (IOException e) {
+                // A record cut short ends the journal, so no record may follow it
+                savedPersons = null;
+                throw e;
+            }
+        }
+        savedPersons = new SavedPersons(persons);
+        lastVersion = version;
+    }
+
+    private boolean isChainFull() {
+        return journal.getRecordCount() >= MAX_VERSIONS_PER_BASE || journal.getByteCount() >= baseSize;
+    }
+
+    private void writeBase(List<Person> persons, long version) throws IOException {
+        savedPersons = null;
+        Path basePath = basePathOf(version);
+        new JsonAddressBookWriter(basePath).write(persons, version);
+        baseVersion = version;
+        baseSize = Files.size(basePath);
+        journal = new JsonAddressBookJournal(basePath);
+    }
+
+    /**
+     * Returns every version kept, oldest first.
+     *
+     * @throws DataLoadingException if the backups could not be read.
+     */
+    List<Long> readVersions() throws DataLoadingException {
+        List<Long> versions = new ArrayList<>();
+        try {
+            for (long base : readBases()) {
+                versions.add(base);
+                for (JsonAdaptedJournalRecord record : new JsonAddressBookJournal(basePathOf(base)).read()) {
+                    if (record.getGeneration() == base) {
+                        versions.add(record.getSavedAt());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return versions;
+    }
+
+    /**
+     * Returns the address book as it was at {@code version}, or an empty {@code Optional} if the version is not
+     * kept.
+     *
+     * @throws DataLoadingException if the backup of the version could not be read.
+     */
+    Optional<ReadOnlyAddressBook> read(long version) throws DataLoadingException {
+        try {
+            Optional<Long> base = readBases().stream().filter(id -> id <= version).reduce((first, second) -> second);
+            if (base.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+            for (JsonAdaptedJournalRecord record : new JsonAddressBookJournal(basePathOf(base.get())).read()) {
+                if (record.getGeneration() == base.get() && record.getSavedAt() <= version) {
+                    records.add(record);
+                }
+            }
+            boolean isKept = version == base.get()
+                    || (!records.isEmpty() && records.get(records.size() - 1).getSavedAt() == version);
+            if (!isKept) {
+                return Optional.empty();
+            }
+
+            JsonAddressBookReader reader = new JsonAddressBookReader(basePathOf(base.get()));
+            reader.read();
+            reader.applyJournal(records);
+            return Optional.of(reader.toModelType());
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading backup of version " + version + " from " + folder + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Deletes every chain but the newest ones, up to the number kept.
+     * Failures are logged, and the chains that could not be deleted are tried again the next time.
+     */
+    void prune() {
+        try {
+            List<Long> bases = readBases();
+            for (long base : bases.subList(0, Math.max(0, bases.size() - maxBases))) {
+                Path basePath = basePathOf(base);
+                // The journal goes first, so that a base is never left behind with only part of its chain
+                Files.deleteIfExists(JsonAddressBookJournal.pathOf(basePath));
+                Files.deleteIfExists(basePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to prune backups in " + folder + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the newest version kept, or 0 if there is none.
+     */
+    private long readNewestVersion() throws IOException {
+        List<Long> bases = readBases();
+        if (bases.isEmpty()) {
+            return 0;
+        }
+        long newestBase = bases.get(bases.size() - 1);
+        long newestVersion = newestBase;
+        for (JsonAdaptedJournalRecord record : new JsonAddressBookJournal(basePathOf(newestBase)).read()) {
+            newestVersion = Math.max(newestVersion, record.getSavedAt());
+        }
+        return newestVersion;
+    }
+
+    /**
+     * Returns the versions of the bases kept, oldest first.
+     */
+    private List<Long> readBases() throws IOException {
+        if (!Files.isDirectory(folder)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.map(file -> BASE_FILE_PATTERN.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path basePathOf(long version) {
+        return folder.resolve(BASE_FILE_PREFIX + version + BASE_FILE_SUFFIX);
+    }
+}
@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Tells this storage that {@code read}, the address book last read from the data file, has been merged into
+     * {@code merged}, so that the persons of {@code merged} are taken as the ones in the data file.
+     * Does nothing if an address book was saved since {@code read} was read.
+     */
+    default void rememberMerged(ReadOnlyAddressBook read, ReadOnlyAddressBook merged) {
+    }
+
 }
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches a data file for changes, and runs a task on a background thread once the file has stopped changing.
+ * A file-sync tool may write a file in several steps, so the task runs only after the file has been left alone for
+ * a short while, and at most once for a burst of changes.
+ */
+class DataFileWatcher implements AutoCloseable {
+
+    static final long DEFAULT_QUIET_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final Path filePath;
+    private final Runnable onChange;
+    private final long quietMillis;
+    private WatchService watchService;
+
+    /**
+     * Creates a watcher that runs {@code onChange} after the file at {@code filePath} has changed and then been left
+     * alone for {@code quietMillis} milliseconds.
+     */
+    DataFileWatcher(Path filePath, Runnable onChange, long quietMillis) {
+        this.filePath = filePath.toAbsolutePath();
+        this.onChange = onChange;
+        this.quietMillis = quietMillis;
+    }
+
+    /**
+     * Starts watching the file, creating the folder holding it if it does not exist yet.
+     *
+     * @throws IOException if the folder could not be watched.
+     */
+    void start() throws IOException {
+        Path folder = filePath.getParent();
+        Files.createDirectories(folder);
+        watchService = folder.getFileSystem().newWatchService();
+        folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        Thread thread = new Thread(this::watch, "data-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                if (!isFileChanged(watchService.take())) {
+                    continue;
+                }
+                // Wait for the file to be left alone before reporting the change
+                WatchKey key;
+                while ((key = watchService.poll(quietMillis, TimeUnit.MILLISECONDS)) != null) {
+                    isFileChanged(key);
+                }
+                onChange.run();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching " + filePath);
+        }
+    }
+
+    /**
+     * Returns true if the events of {@code key} include a change to the file, and readies {@code key} for more.
+     */
+    private boolean isFileChanged(WatchKey key) {
+        boolean isFileChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            // Events lost to an overflow may have been about the file
+            isFileChanged |= event.kind() == OVERFLOW || filePath.getFileName().equals(event.context());
+        }
+        key.reset();
+        return isFileChanged;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Returns a stamp of the current state of the file at {@code filePath}, which differs from an earlier stamp if
+     * the file has been written or replaced in between, or null if there is no such file.
+     */
+    static Stamp stampOf(Path filePath) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return new Stamp(attributes.lastModifiedTime(), attributes.size(), attributes.fileKey());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The state of a file, told apart by when it was last modified, its size and, where the file system has one,
+     * the key of the file that changes when the file is replaced.
+     */
+    record Stamp(FileTime lastModified, long size, Object fileKey) {}
+}
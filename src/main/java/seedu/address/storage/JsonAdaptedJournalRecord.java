@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of one change to the person list of an address book, as kept in its journal.
+ * A change replaces the {@code removed} persons starting at position {@code from} with the {@code added} persons,
+ * which covers adding, editing and deleting a person, and any other change to a contiguous run of persons.
+ * A record also keeps the time the change was saved, which is 0 for records written before it was kept.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal record does not fit the person list it follows.";
+
+    private final long generation;
+    private final long savedAt;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("generation") long generation, @JsonProperty("savedAt") long savedAt,
+            @JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        this.generation = generation;
+        this.savedAt = savedAt;
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a change replacing {@code removed} persons from position {@code from} with {@code added}, saved at
+     * {@code savedAt} milliseconds since the epoch, into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalRecord of(long generation, long savedAt, int from, int removed,
+            List<Person> added) {
+        return new JsonAdaptedJournalRecord(generation, savedAt, from, removed,
+                added.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the record of the change from {@code savedPersons} to {@code persons}, saved at {@code savedAt}, or an
+     * empty {@code Optional} if they are the same.
+     * The change is taken to be the run of persons between the longest unchanged start and end of the list.
+     */
+    public static Optional<JsonAdaptedJournalRecord> ofChange(long generation, long savedAt, SavedPersons savedPersons,
+            List<Person> persons) {
+        int unchangedStart = savedPersons.unchangedStart(persons);
+        if (unchangedStart == savedPersons.size() && unchangedStart == persons.size()) {
+            return Optional.empty();
+        }
+        int unchangedEnd = savedPersons.unchangedEnd(persons, unchangedStart);
+
+        return Optional.of(of(generation, savedAt, unchangedStart, savedPersons.size() - unchangedStart - unchangedEnd,
+                persons.subList(unchangedStart, persons.size() - unchangedEnd)));
+    }
+
+    /**
+     * Returns the generation of the data file this record follows.
+     * Records of any other generation were written before the data file last was, and are already part of it.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the time the change was saved, in milliseconds since the epoch.
+     */
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    /**
+     * Applies this change to {@code persons}, converting the persons added into the model's {@code Person} objects.
+     *
+     * @throws IllegalValueException if the persons to be removed are not all in {@code persons}, or there were any
+     *     data constraints violated in the persons added.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > persons.size()) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+        List<Person> addedPersons = new ArrayList<>(added.size());
+        for (JsonAdaptedPerson person : added) {
+            addedPersons.add(person.toModelType());
+        }
+        List<Person> replaced = persons.subList(from, from + removed);
+        replaced.clear();
+        replaced.addAll(addedPersons);
+    }
+}
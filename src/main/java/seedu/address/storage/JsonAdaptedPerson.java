@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.Checksum;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -149,4 +151,69 @@ class JsonAdaptedPerson {
         }
     }
 
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object without checking
+     * its fields, for a person read back from a data file exactly as the app wrote it.
+     * A person that is not valid may fail with any {@code RuntimeException}, or be converted into an invalid person.
+     */
+    public Person toTrustedModelType() {
+        final Name modelName = Name.ofTrusted(name);
+        final Phone modelPhone = Phone.ofTrusted(phone);
+        final Address modelAddress = Address.ofTrusted(address);
+        final Remark modelRemark = new Remark(remark);
+        if (!role.equals("student")) {
+            return new Parent(modelName, modelPhone, modelAddress, modelRemark);
+        }
+
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        final Set<Session> modelSessions = new HashSet<>();
+        for (JsonAdaptedSession session : sessions) {
+            modelSessions.add(session.toTrustedModelType());
+        }
+        final Name modelParentName = parentName == null ? null : Name.ofTrusted(parentName);
+        return new Student(modelName, modelPhone, modelAddress, modelRemark, modelTags, modelSessions,
+                modelParentName);
+    }
+
+    /**
+     * Adds every field of this person to {@code checksum}, in an order that tells the fields apart.
+     */
+    void addTo(Checksum checksum) {
+        addTo(checksum, name);
+        addTo(checksum, phone);
+        addTo(checksum, address);
+        addTo(checksum, role);
+        addTo(checksum, remark);
+        addTo(checksum, parentName);
+        addTo(checksum, tags.size());
+        for (JsonAdaptedTag tag : tags) {
+            addTo(checksum, tag.getTagName());
+        }
+        addTo(checksum, sessions.size());
+        for (JsonAdaptedSession session : sessions) {
+            addTo(checksum, session.getDay());
+            addTo(checksum, session.getTime());
+        }
+    }
+
+    private static void addTo(Checksum checksum, String value) {
+        if (value == null) {
+            addTo(checksum, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        addTo(checksum, bytes.length);
+        checksum.update(bytes, 0, bytes.length);
+    }
+
+    private static void addTo(Checksum checksum, int value) {
+        checksum.update(value >>> 24);
+        checksum.update(value >>> 16);
+        checksum.update(value >>> 8);
+        checksum.update(value);
+    }
+
 }
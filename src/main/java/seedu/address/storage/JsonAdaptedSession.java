@@ -55,4 +55,12 @@ class JsonAdaptedSession {
         return new Session(new Day(this.day), new Time(this.time));
     }
 
+    /**
+     * Converts this Jackson-friendly adapted Session object into the model's {@code Session} object without checking
+     * it, for a session read back from a data file exactly as the app wrote it.
+     */
+    public Session toTrustedModelType() {
+        return new Session(Day.ofTrusted(this.day), Time.ofTrusted(this.time));
+    }
+
 }
@@ -45,4 +45,12 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object without checking it,
+     * for a tag read back from a data file exactly as the app wrote it.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.ofTrusted(tagName);
+    }
+
 }
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * The journal kept next to an address book data file, holding the changes made since the data file was last
+ * written, one {@link JsonAdaptedJournalRecord} per line.
+ * The journal also keeps count of the records and bytes in it, so that its owner can tell when to compact it by
+ * rewriting the data file.
+ */
+class JsonAddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookJournal.class);
+
+    private final Path filePath;
+    private int recordCount;
+    private long byteCount;
+    private boolean isIntact = true;
+
+    /**
+     * Creates the journal of the data file at {@code dataFilePath}.
+     */
+    JsonAddressBookJournal(Path dataFilePath) {
+        this.filePath = pathOf(dataFilePath);
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code dataFilePath}.
+     */
+    static Path pathOf(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + ".journal");
+    }
+
+    /**
+     * Returns the records in the journal, oldest first, or an empty list if there is no journal.
+     * A record cut short by the app stopping while it was being written is left out, along with anything after it,
+     * and the journal is then no longer intact.
+     *
+     * @throws IOException if the journal could not be read.
+     */
+    List<JsonAdaptedJournalRecord> read() throws IOException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        recordCount = 0;
+        byteCount = 0;
+        isIntact = true;
+        if (!Files.exists(filePath)) {
+            return records;
+        }
+
+        for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+            try {
+                records.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+            } catch (IOException e) {
+                logger.warning("Ignoring unreadable end of journal " + filePath + ": " + e.getMessage());
+                isIntact = false;
+                break;
+            }
+        }
+        recordCount = records.size();
+        byteCount = Files.size(filePath);
+        return records;
+    }
+
+    /**
+     * Returns true if every line of the journal was read, so that records can be appended to it.
+     */
+    boolean isIntact() {
+        return isIntact;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Appends {@code record} to the end of the journal.
+     *
+     * @throws IOException if the record could not be written.
+     */
+    void append(JsonAdaptedJournalRecord record) throws IOException {
+        byte[] line = (JsonUtil.toCompactJsonString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        recordCount++;
+        byteCount += line.length;
+    }
+
+    /**
+     * Deletes every record in the journal, once they are all part of the data file.
+     *
+     * @throws IOException if the journal could not be deleted.
+     */
+    void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        recordCount = 0;
+        byteCount = 0;
+        isIntact = true;
+    }
+}
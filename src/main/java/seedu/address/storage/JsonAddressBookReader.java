@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads an address book data file in the format written by {@link JsonAddressBookWriter}, a batch of persons at a
+ * time.
+ * Each batch is validated and converted into the model's {@code Person} objects in parallel as soon as it has been
+ * read, so that only one batch of the file is held in its Jackson-friendly form at any time, rather than the whole
+ * file. The persons read keep the order of the file.
+ * The fields of each person are checked only if the file may not be exactly as the app wrote it, as told by its
+ * schema version and checksum.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data file does not hold an address book.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_PERSON = "Person %1$d in the data file is invalid: %2$s";
+
+    // Large enough for the work of a batch to outweigh the cost of splitting it up, small enough to bound the heap
+    private static final int BATCH_SIZE = 1024;
+
+    private final Path filePath;
+    private final List<Person> persons = new ArrayList<>();
+    private long generation;
+    private boolean isTrusted;
+
+    /**
+     * Creates a reader of the data file at {@code filePath}.
+     */
+    JsonAddressBookReader(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads every person in the data file, in order.
+     * A file of the current schema version is first read without checking the fields of its persons. If its checksum
+     * then shows that it is not exactly as the app wrote it, it is read again, checking every field.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated in a person.
+     */
+    void read() throws IOException, IllegalValueException {
+        if (!readFile(true)) {
+            readFile(false);
+        }
+    }
+
+    /**
+     * Reads every person in the data file, in order, without checking their fields if {@code mayTrust} is true and
+     * the file is of the current schema version.
+     *
+     * @return false if the persons were read without checking them but the file is not exactly as the app wrote it,
+     *     in which case the persons read must not be used.
+     */
+    private boolean readFile(boolean mayTrust) throws IOException, IllegalValueException {
+        persons.clear();
+        generation = 0;
+        isTrusted = false;
+        int schemaVersion = 0;
+        Long expectedChecksum = null;
+        CRC32 checksum = new CRC32();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (field.equals("persons") && value == JsonToken.START_ARRAY) {
+                    isTrusted = mayTrust && schemaVersion == JsonAddressBookWriter.SCHEMA_VERSION;
+                    if (!readPersons(parser, checksum)) {
+                        return false;
+                    }
+                } else if (field.equals("schemaVersion")) {
+                    schemaVersion = parser.getValueAsInt();
+                } else if (field.equals("generation")) {
+                    generation = parser.getValueAsLong();
+                } else if (field.equals("checksum")) {
+                    expectedChecksum = parser.getValueAsLong();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return !isTrusted || (expectedChecksum != null && expectedChecksum == checksum.getValue());
+    }
+
+    /**
+     * Reads the persons in the array {@code parser} has just entered, up to and including the end of the array.
+     * If the persons are read without checking them, their fields are added to {@code checksum}.
+     *
+     * @return false if the persons were read without checking them and one of them could not be converted.
+     */
+    private boolean readPersons(JsonParser parser, CRC32 checksum) throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            JsonAdaptedPerson adaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+            if (isTrusted) {
+                adaptedPerson.addTo(checksum);
+            }
+            batch.add(adaptedPerson);
+            if (batch.size() == BATCH_SIZE) {
+                if (!convert(batch)) {
+                    return false;
+                }
+                batch.clear();
+            }
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        return convert(batch);
+    }
+
+    /**
+     * Converts {@code batch} into the model's {@code Person} objects and adds them after the persons read so far,
+     * checking their fields unless the file is trusted to be exactly as the app wrote it.
+     *
+     * @return false if the file is trusted but a person in the batch could not be converted.
+     */
+    private boolean convert(List<JsonAdaptedPerson> batch) throws IllegalValueException {
+        if (!isTrusted) {
+            convertChecked(batch);
+            return true;
+        }
+
+        Person[] converted = new Person[batch.size()];
+        boolean[] isFailed = new boolean[batch.size()];
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = batch.get(i).toTrustedModelType();
+            } catch (RuntimeException e) {
+                isFailed[i] = true;
+            }
+        });
+        for (boolean failed : isFailed) {
+            if (failed) {
+                return false;
+            }
+        }
+        persons.addAll(Arrays.asList(converted));
+        return true;
+    }
+
+    /**
+     * Validates and converts {@code batch} into the model's {@code Person} objects on the common fork-join pool, and
+     * adds them after the persons read so far, in order.
+     *
+     * @throws IllegalValueException naming the position in the file of the first invalid person in the batch.
+     */
+    private void convertChecked(List<JsonAdaptedPerson> batch) throws IllegalValueException {
+        Person[] converted = new Person[batch.size()];
+        IllegalValueException[] failures = new IllegalValueException[batch.size()];
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = batch.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
+
+        // Persons are checked in file order, so the same person is reported however the work was split up
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON, persons.size() + i + 1,
+                        failures[i].getMessage()), failures[i]);
+            }
+        }
+        persons.addAll(Arrays.asList(converted));
+    }
+
+    /**
+     * Returns true if the persons were read without checking their fields, as the data file is exactly as the app
+     * wrote it.
+     */
+    boolean isTrusted() {
+        return isTrusted;
+    }
+
+    /**
+     * Returns the generation of the data file, or 0 if it has none.
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Applies every record of {@code journal} of the same generation as the data file to the persons read.
+     *
+     * @throws IllegalValueException if a record does not fit the persons it follows.
+     */
+    void applyJournal(List<JsonAdaptedJournalRecord> journal) throws IllegalValueException {
+        for (JsonAdaptedJournalRecord record : journal) {
+            if (record.getGeneration() == generation) {
+                record.applyTo(persons);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons read, in the order of the file.
+     */
+    List<Person> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    /**
+     * Returns the model's {@code AddressBook} holding the persons read, with parents and students linked.
+     *
+     * @throws IllegalValueException if the persons read include duplicates.
+     */
+    AddressBook toModelType() throws IllegalValueException {
+        return toAddressBook(persons);
+    }
+
+    /**
+     * Returns the model's {@code AddressBook} holding {@code persons}, with parents and students linked.
+     *
+     * @throws IllegalValueException if {@code persons} include duplicates.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+
+        // Link parents and students
+        addressBook.linkAllParents();
+
+        return addressBook;
+    }
+}
@@ -3,28 +3,66 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The data file is read and written one person at a time, so that neither holds the whole file in memory, and a
+ * data file being written replaces the old one only once it is complete.
+ * The data file may be followed by a journal of the changes made since it was written, which is replayed when it is
+ * read. In journal mode, saving appends the change since the last save to the journal instead of rewriting the data
+ * file, until the journal holds enough records or bytes that the data file is rewritten to compact it.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final int DEFAULT_MAX_JOURNAL_RECORDS = 200;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1 << 20;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
 
+    // The journal of filePath in journal mode, and null if every save rewrites the data file
+    private final JsonAddressBookJournal journal;
+    private final int maxJournalRecords;
+    private final long maxJournalBytes;
+
+    // The generation of the data file at filePath, and the persons last read from or written to it in journal mode,
+    // or null if they are not known
+    private long generation;
+    private SavedPersons savedPersons;
+
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}, which records changes in a
+     * journal if {@code isJournaled} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isJournaled) {
+        this(filePath, isJournaled, DEFAULT_MAX_JOURNAL_RECORDS, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that compacts its journal once it holds {@code maxJournalRecords}
+     * records or {@code maxJournalBytes} bytes.
+     */
+    JsonAddressBookStorage(Path filePath, boolean isJournaled, int maxJournalRecords, long maxJournalBytes) {
         this.filePath = filePath;
+        this.journal = isJournaled ? new JsonAddressBookJournal(filePath) : null;
+        this.maxJournalRecords = maxJournalRecords;
+        this.maxJournalBytes = maxJournalBytes;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +83,33 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        JsonAddressBookJournal fileJournal = isJournaled(filePath) ? journal : new JsonAddressBookJournal(filePath);
+        ReadOnlyAddressBook addressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            reader.read();
+            reader.applyJournal(fileJournal.read());
+            addressBook = reader.toModelType();
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        if (filePath.equals(this.filePath)) {
+            generation = reader.getGeneration();
+        }
+        if (isJournaled(filePath)) {
+            // Records cannot follow a line cut short, so the next save rewrites the data file instead
+            rememberSaved(fileJournal.isIntact() ? addressBook : null);
+        }
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -66,6 +119,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * In journal mode, a save to the data file of this storage appends the change since the last save to the
+     * journal, unless the data file has not been read or written yet or the journal is full.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +128,77 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (!isJournaled(filePath) || savedPersons == null) {
+            writeDataFile(addressBook, filePath);
+            return;
+        }
+
+        Optional<JsonAdaptedJournalRecord> record = changeSinceSaved(addressBook.getPersonList());
+        if (record.isEmpty()) {
+            return;
+        }
+        if (journal.getRecordCount() >= maxJournalRecords || journal.getByteCount() >= maxJournalBytes) {
+            writeDataFile(addressBook, filePath);
+            return;
+        }
+        journal.append(record.get());
+        rememberSaved(addressBook);
+    }
+
+    /**
+     * {@inheritDoc}
+     * In journal mode, the next change is then recorded against the persons of {@code merged}, which keeps its own
+     * instances of the persons that did not change, rather than against the persons read.
+     */
+    @Override
+    public void rememberMerged(ReadOnlyAddressBook read, ReadOnlyAddressBook merged) {
+        if (savedPersons != null && savedPersons.isAll(read.getPersonList())) {
+            savedPersons = savedPersons.mergedInto(merged.getPersonList());
+        }
+    }
+
+    /**
+     * Rewrites the whole data file at {@code filePath} and deletes its journal, whose records are now part of it.
+     */
+    private void writeDataFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        boolean isOwnFile = filePath.equals(this.filePath);
+        // A journal left behind by a failed delete must not be replayed over the new data file, so the new file
+        // takes a generation that none of its records have
+        long newGeneration = isOwnFile ? Math.max(generation + 1, System.currentTimeMillis())
+                : System.currentTimeMillis();
+
+        new JsonAddressBookWriter(filePath).write(addressBook, newGeneration);
+        if (isJournaled(filePath)) {
+            journal.clear();
+            rememberSaved(addressBook);
+        } else {
+            new JsonAddressBookJournal(filePath).clear();
+        }
+        if (isOwnFile) {
+            generation = newGeneration;
+        }
+    }
+
+    /**
+     * Returns true if changes to the data file at {@code filePath} are recorded in the journal of this storage.
+     */
+    private boolean isJournaled(Path filePath) {
+        return journal != null && filePath.equals(this.filePath);
+    }
+
+    /**
+     * Returns the record of the change from the persons last saved to {@code persons}, or an empty
+     * {@code Optional} if they are the same.
+     */
+    private Optional<JsonAdaptedJournalRecord> changeSinceSaved(List<Person> persons) {
+        return JsonAdaptedJournalRecord.ofChange(generation, System.currentTimeMillis(), savedPersons, persons);
+    }
+
+    /**
+     * Remembers the persons of {@code addressBook} as the ones last saved, or forgets them if it is null.
+     */
+    private void rememberSaved(ReadOnlyAddressBook addressBook) {
+        savedPersons = addressBook == null ? null : new SavedPersons(addressBook.getPersonList());
     }
 
 }
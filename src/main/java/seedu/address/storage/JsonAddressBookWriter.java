@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book data file in the format read by {@link JsonAddressBookReader}, one person at a time.
+ * Each person is converted into its Jackson-friendly form only while it is being written, so that writing the file
+ * does not build the whole file in memory first.
+ * The persons are preceded by the schema version and followed by a checksum of their fields, which together tell the
+ * reader that the file is exactly as written here.
+ */
+class JsonAddressBookWriter {
+
+    // Raised whenever the format of a person changes, so that files written in an older format are checked in full
+    static final int SCHEMA_VERSION = 1;
+
+    private final Path filePath;
+
+    /**
+     * Creates a writer of the data file at {@code filePath}.
+     */
+    JsonAddressBookWriter(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Writes every person of {@code addressBook}, followed by {@code generation}, to the data file.
+     * The data file is replaced in one step once the new content is written in full.
+     *
+     * @throws IOException if the data file could not be written, in which case it is left as it was.
+     */
+    void write(ReadOnlyAddressBook addressBook, long generation) throws IOException {
+        write(addressBook.getPersonList(), generation);
+    }
+
+    /**
+     * Writes {@code persons}, followed by {@code generation}, to the data file.
+     * The data file is replaced in one step once the new content is written in full.
+     *
+     * @throws IOException if the data file could not be written, in which case it is left as it was.
+     */
+    void write(List<Person> persons, long generation) throws IOException {
+        FileUtil.writeToFileAtomically(filePath, out -> writeTo(out, persons, generation));
+    }
+
+    private static void writeTo(OutputStream out, List<Person> persons, long generation) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("schemaVersion", SCHEMA_VERSION);
+            generator.writeArrayFieldStart("persons");
+            CRC32 checksum = new CRC32();
+            for (Person person : persons) {
+                JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(person);
+                adaptedPerson.addTo(checksum);
+                generator.writeObject(adaptedPerson);
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("generation", generation);
+            generator.writeNumberField("checksum", checksum.getValue());
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of an address book kept in segments, listing the segment files in the order of their
+ * persons.
+ */
+class JsonSegmentManifest {
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final long nextSegmentId;
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given segments, and the id of the next segment to be written.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("segments") List<Segment> segments,
+            @JsonProperty("nextSegmentId") long nextSegmentId) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+        this.nextSegmentId = nextSegmentId;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    public long getNextSegmentId() {
+        return nextSegmentId;
+    }
+
+    /**
+     * Jackson-friendly entry for one segment file, holding a run of consecutive persons.
+     */
+    static class Segment {
+        private final String file;
+        private final int size;
+
+        /**
+         * Constructs a {@code Segment} for the segment file named {@code file}, which holds {@code size} persons.
+         */
+        @JsonCreator
+        public Segment(@JsonProperty("file") String file, @JsonProperty("size") int size) {
+            this.file = file;
+            this.size = size;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public int getSize() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+
+/**
+ * The persons of an address book as they were last saved, for telling which persons have changed since.
+ * Nothing saved of a person changes once it is in an address book, as a person is replaced by a changed copy instead,
+ * so a person counts as unchanged if it is the same instance.
+ */
+class SavedPersons {
+
+    private final List<Person> persons;
+
+    /**
+     * Remembers {@code persons} as the persons last saved.
+     */
+    SavedPersons(List<Person> persons) {
+        this.persons = new ArrayList<>(persons);
+    }
+
+    int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns true if {@code current} holds exactly the persons saved, in the same order.
+     */
+    boolean isAll(List<Person> current) {
+        return current.size() == size() && unchangedStart(current) == size();
+    }
+
+    /**
+     * Returns the persons saved, each replaced by the person of {@code merged} with the same identity, for when the
+     * persons saved have just been merged into {@code merged}, which keeps its own instance of each person that did
+     * not change. The persons stay in the order they were saved in.
+     */
+    SavedPersons mergedInto(List<Person> merged) {
+        Map<PersonIdentity, Person> mergedByIdentity = new HashMap<>();
+        for (Person person : merged) {
+            mergedByIdentity.put(PersonIdentity.of(person), person);
+        }
+        List<Person> rebased = new ArrayList<>();
+        for (Person person : persons) {
+            rebased.add(mergedByIdentity.getOrDefault(PersonIdentity.of(person), person));
+        }
+        return new SavedPersons(rebased);
+    }
+
+    /**
+     * Returns the number of persons at the start of {@code current} that are saved unchanged at the same position.
+     */
+    int unchangedStart(List<Person> current) {
+        int unchangedStart = 0;
+        while (unchangedStart < Math.min(size(), current.size())
+                && isSaved(unchangedStart, current.get(unchangedStart))) {
+            unchangedStart++;
+        }
+        return unchangedStart;
+    }
+
+    /**
+     * Returns the number of persons at the end of {@code current} that are saved unchanged at the same position
+     * from the end, not counting any of the first {@code unchangedStart} persons.
+     */
+    int unchangedEnd(List<Person> current, int unchangedStart) {
+        int unchangedEnd = 0;
+        while (unchangedEnd < Math.min(size(), current.size()) - unchangedStart
+                && isSaved(size() - 1 - unchangedEnd, current.get(current.size() - 1 - unchangedEnd))) {
+            unchangedEnd++;
+        }
+        return unchangedEnd;
+    }
+
+    private boolean isSaved(int index, Person person) {
+        return persons.get(index) == person;
+    }
+}
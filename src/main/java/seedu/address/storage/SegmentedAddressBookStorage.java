@@ -0,0 +1,387 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in segments on the hard disk, so that saving a change rewrites only the
+ * segments holding the persons changed.
+ * <p>
+ * The persons are split into runs of consecutive persons, each kept in a segment file in the same json format as the
+ * data file. A manifest lists the segment files in order. Saving writes the segments holding the persons changed since
+ * the last save as new files, then replaces the manifest in one step, and only then deletes the segment files no
+ * longer listed, so that the manifest always lists a complete address book. The segments are read in parallel.
+ * </p><p>
+ * The segments are kept in a folder next to the json data file, which is converted into segments the first time it is
+ * read if there are no segments yet. Reading from or saving to a path ending in {@code .json} or {@code .json.gz} uses
+ * the json data file format, so that address books can still be imported and exported in it.
+ * </p>
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 500;
+    public static final String SEGMENTS_FOLDER_EXTENSION = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    public static final String MESSAGE_INVALID_SEGMENT_NAME = "Manifest lists %1$s, which is not a segment file.";
+    public static final String MESSAGE_MISSING_SEGMENT = "Segment %1$s listed in the manifest is missing.";
+    public static final String MESSAGE_WRONG_SEGMENT_SIZE = "Segment %1$s does not hold the %2$d persons listed.";
+
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_SUFFIX = ".json";
+    private static final Pattern SEGMENT_FILE_PATTERN = Pattern.compile("segment-(\\d{1,18})\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage jsonStorage;
+    private final int segmentSize;
+
+    // The segments listed in the manifest at filePath and the persons last read from or written to them, or null if
+    // they are not known
+    private List<JsonSegmentManifest.Segment> savedSegments;
+    private SavedPersons savedPersons;
+    private long nextSegmentId;
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} keeping its segments next to the json data file at
+     * {@code jsonFilePath}, which is converted into segments if there are no segments yet.
+     */
+    public SegmentedAddressBookStorage(Path jsonFilePath) {
+        this(jsonFilePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} that puts at most {@code segmentSize} persons in a segment.
+     */
+    SegmentedAddressBookStorage(Path jsonFilePath, int segmentSize) {
+        requireNonNull(jsonFilePath);
+        this.filePath = pathOf(jsonFilePath);
+        this.jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the path of the manifest of the segments kept next to the json data file at {@code jsonFilePath}.
+     */
+    public static Path pathOf(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SEGMENTS_FOLDER_EXTENSION).resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (Files.exists(filePath)) {
+            return readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> converted = jsonStorage.readAddressBook();
+        if (converted.isPresent()) {
+            logger.info("Converting " + jsonStorage.getAddressBookFilePath() + " into segments at " + filePath);
+            try {
+                saveAddressBook(converted.get());
+            } catch (IOException e) {
+                // The json data file is still there, so the conversion is simply tried again on the next start
+                logger.warning("Could not write segments " + filePath + ": " + e);
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but reads json if {@code filePath} ends in {@code .json} or
+     * {@code .json.gz}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (isJsonFile(filePath) && !filePath.equals(this.filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+
+        Optional<JsonSegmentManifest> manifest = JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<JsonSegmentManifest.Segment> segments = manifest.get().getSegments();
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = JsonAddressBookReader.toAddressBook(readSegments(filePath, segments));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            rememberSaved(segments, addressBook.getPersonList());
+            nextSegmentId = manifest.get().getNextSegmentId();
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the persons of {@code segments}, listed in the manifest at {@code manifestPath}, in parallel.
+     *
+     * @throws DataLoadingException if a segment could not be read, naming the first such segment in the manifest.
+     * @throws IllegalValueException if a segment is not the one listed, naming the first such segment.
+     */
+    private static List<Person> readSegments(Path manifestPath, List<JsonSegmentManifest.Segment> segments)
+            throws DataLoadingException, IllegalValueException {
+        JsonAddressBookReader[] readers = new JsonAddressBookReader[segments.size()];
+        Exception[] failures = new Exception[segments.size()];
+        IntStream.range(0, segments.size()).parallel().forEach(i -> {
+            try {
+                readers[i] = readSegment(manifestPath, segments.get(i));
+            } catch (IOException | IllegalValueException e) {
+                failures[i] = e;
+            }
+        });
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            if (failures[i] instanceof IllegalValueException ive) {
+                throw ive;
+            } else if (failures[i] != null) {
+                logger.warning("Error reading segment " + segments.get(i).getFile() + ": " + failures[i]);
+                throw new DataLoadingException(failures[i]);
+            }
+            persons.addAll(readers[i].getPersons());
+        }
+        return persons;
+    }
+
+    private static JsonAddressBookReader readSegment(Path manifestPath, JsonSegmentManifest.Segment segment)
+            throws IOException, IllegalValueException {
+        String file = segment.getFile();
+        if (file == null || !SEGMENT_FILE_PATTERN.matcher(file).matches()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT_NAME, file));
+        }
+        Path segmentPath = manifestPath.resolveSibling(file);
+        if (!Files.exists(segmentPath)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SEGMENT, file));
+        }
+
+        JsonAddressBookReader reader = new JsonAddressBookReader(segmentPath);
+        reader.read();
+        if (reader.getPersons().size() != segment.getSize()) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_SEGMENT_SIZE, file, segment.getSize()));
+        }
+        return reader;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but writes json if {@code filePath} ends in
+     * {@code .json} or {@code .json.gz}.
+     * A save to the manifest of this storage rewrites only the segments holding the persons changed since the last
+     * save, unless the segments have not been read or written yet.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (isJsonFile(filePath) && !filePath.equals(this.filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        if (!filePath.equals(this.filePath)) {
+            long firstSegmentId = nextFreeSegmentId(filePath, 0);
+            List<JsonSegmentManifest.Segment> segments = writeSegments(filePath, persons, firstSegmentId);
+            writeManifest(filePath, segments, firstSegmentId + segments.size());
+            return;
+        }
+
+        if (savedSegments == null || savedSegments.isEmpty()) {
+            nextSegmentId = nextFreeSegmentId(filePath, nextSegmentId);
+            replaceSegments(persons, 0, 0, persons);
+            return;
+        }
+
+        int savedSize = savedPersons.size();
+        int unchangedStart = savedPersons.unchangedStart(persons);
+        if (unchangedStart == savedSize && unchangedStart == persons.size()) {
+            return;
+        }
+        int changedEnd = savedSize - savedPersons.unchangedEnd(persons, unchangedStart);
+
+        // The saved segments holding the persons changed, or the one before the persons inserted if none changed
+        int first = segmentAt(changedEnd > unchangedStart ? unchangedStart : Math.max(unchangedStart - 1, 0));
+        int last = changedEnd > unchangedStart ? segmentAt(changedEnd - 1) : first;
+        int start = startOf(first);
+        int end = startOf(last) + savedSegments.get(last).getSize() + persons.size() - savedSize;
+        replaceSegments(persons, first, last + 1, persons.subList(start, end));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The next save then looks for changes against the persons of {@code merged}, which keeps its own instances of
+     * the persons that did not change, rather than against the persons read.
+     */
+    @Override
+    public void rememberMerged(ReadOnlyAddressBook read, ReadOnlyAddressBook merged) {
+        if (savedPersons != null && savedPersons.isAll(read.getPersonList())) {
+            savedPersons = savedPersons.mergedInto(merged.getPersonList());
+        }
+    }
+
+    /**
+     * Replaces the saved segments from {@code from} up to {@code to} with new segments holding {@code replacement},
+     * and remembers {@code persons} as the persons saved.
+     */
+    private void replaceSegments(List<Person> persons, int from, int to, List<Person> replacement)
+            throws IOException {
+        List<JsonSegmentManifest.Segment> segments = new ArrayList<>();
+        if (savedSegments != null) {
+            segments.addAll(savedSegments.subList(0, from));
+        }
+        List<JsonSegmentManifest.Segment> written = writeSegments(filePath, replacement, nextSegmentId);
+        segments.addAll(written);
+        if (savedSegments != null) {
+            segments.addAll(savedSegments.subList(to, savedSegments.size()));
+        }
+
+        long newNextSegmentId = nextSegmentId + written.size();
+        writeManifest(filePath, segments, newNextSegmentId);
+        nextSegmentId = newNextSegmentId;
+        rememberSaved(segments, persons);
+    }
+
+    /**
+     * Returns the index of the saved segment holding the person at {@code position}.
+     */
+    private int segmentAt(int position) {
+        int segmentStart = 0;
+        for (int i = 0; i < savedSegments.size(); i++) {
+            segmentStart += savedSegments.get(i).getSize();
+            if (position < segmentStart) {
+                return i;
+            }
+        }
+        return savedSegments.size() - 1;
+    }
+
+    /**
+     * Returns the position of the first person of the saved segment at {@code index}.
+     */
+    private int startOf(int index) {
+        int segmentStart = 0;
+        for (int i = 0; i < index; i++) {
+            segmentStart += savedSegments.get(i).getSize();
+        }
+        return segmentStart;
+    }
+
+    /**
+     * Writes {@code persons} into new segment files next to the manifest at {@code manifestPath}, numbered from
+     * {@code firstSegmentId}, and returns the segments written.
+     */
+    private List<JsonSegmentManifest.Segment> writeSegments(Path manifestPath, List<Person> persons,
+            long firstSegmentId) throws IOException {
+        List<JsonSegmentManifest.Segment> segments = new ArrayList<>();
+        for (int start = 0; start < persons.size(); start += segmentSize) {
+            List<Person> segmentPersons = persons.subList(start, Math.min(start + segmentSize, persons.size()));
+            String file = SEGMENT_FILE_PREFIX + (firstSegmentId + segments.size()) + SEGMENT_FILE_SUFFIX;
+            new JsonAddressBookWriter(manifestPath.resolveSibling(file)).write(segmentPersons, 0);
+            segments.add(new JsonSegmentManifest.Segment(file, segmentPersons.size()));
+        }
+        return segments;
+    }
+
+    /**
+     * Replaces the manifest at {@code manifestPath} with one listing {@code segments}, then deletes the segment files
+     * next to it that are no longer listed.
+     */
+    private static void writeManifest(Path manifestPath, List<JsonSegmentManifest.Segment> segments,
+            long nextSegmentId) throws IOException {
+        byte[] manifest = JsonUtil.toJsonString(new JsonSegmentManifest(segments, nextSegmentId))
+                .getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(manifestPath, out -> out.write(manifest));
+
+        Set<String> listed = new HashSet<>();
+        segments.forEach(segment -> listed.add(segment.getFile()));
+        try (Stream<Path> files = Files.list(manifestPath.toAbsolutePath().getParent())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (SEGMENT_FILE_PATTERN.matcher(name).matches() && !listed.contains(name)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            // The manifest already lists the address book saved, so the files left are only taking up space
+            logger.warning("Could not delete unlisted segments next to " + manifestPath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns an id no lower than {@code lowest} that no segment file next to the manifest at {@code manifestPath}
+     * has, so that writing new segments cannot overwrite a segment an existing manifest lists.
+     */
+    private static long nextFreeSegmentId(Path manifestPath, long lowest) throws IOException {
+        Path folder = manifestPath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(folder)) {
+            return lowest;
+        }
+
+        long nextFree = lowest;
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SEGMENT_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    nextFree = Math.max(nextFree, Long.parseLong(matcher.group(1)) + 1);
+                }
+            }
+        }
+        return nextFree;
+    }
+
+    private void rememberSaved(List<JsonSegmentManifest.Segment> segments, List<Person> persons) {
+        savedSegments = new ArrayList<>(segments);
+        savedPersons = new SavedPersons(persons);
+    }
+
+    private static boolean isJsonFile(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        return fileName.endsWith(".json") || fileName.endsWith(".json" + FileUtil.GZIP_EXTENSION);
+    }
+}
@@ -0,0 +1,395 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk, which is much faster to read and
+ * write than json for large address books.
+ * <p>
+ * A snapshot holds a table of every distinct string in the address book, followed by the persons, whose names,
+ * phones, addresses, remarks and tags are indices into the table and whose sessions are their packed codes. Each
+ * string in the table is validated and converted into a model object once, however many persons share it. A student
+ * refers to its parent by the parent's position among the persons, so that the two are linked as they are read; the
+ * parent's name is only written for a student naming a parent that is not in the address book, or naming it
+ * differently.
+ * </p><p>
+ * The snapshot is kept next to the json data file, which is converted into a snapshot the first time it is read if
+ * there is no snapshot yet. Reading from or saving to a path ending in {@code .json} uses json, so that address books
+ * can still be imported and exported in that format.
+ * </p>
+ */
+public class SnapshotAddressBookStorage implements AddressBookStorage {
+
+    public static final String SNAPSHOT_FILE_EXTENSION = ".snapshot";
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "Data file is not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Snapshot version %1$d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Snapshot refers to a string or person that is not in it.";
+
+    private static final int MAGIC = 0x41424B53; // "ABKS"
+    private static final int VERSION = 2;
+    // Version whose students refer to their parents by name, read so that older snapshots can still be loaded
+    private static final int VERSION_NAMED_PARENTS = 1;
+    private static final int NONE = -1;
+    private static final byte KIND_PARENT = 0;
+    private static final byte KIND_STUDENT = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage jsonStorage;
+
+    /**
+     * Creates a {@code SnapshotAddressBookStorage} keeping its snapshot next to the json data file at
+     * {@code jsonFilePath}, which is converted into a snapshot if there is no snapshot yet.
+     */
+    public SnapshotAddressBookStorage(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        this.filePath = pathOf(jsonFilePath);
+        this.jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+    }
+
+    /**
+     * Returns the path of the snapshot kept next to the json data file at {@code jsonFilePath}.
+     */
+    public static Path pathOf(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (Files.exists(filePath)) {
+            return readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> converted = jsonStorage.readAddressBook();
+        if (converted.isPresent()) {
+            logger.info("Converting " + jsonStorage.getAddressBookFilePath() + " into a snapshot at " + filePath);
+            try {
+                saveAddressBook(converted.get());
+            } catch (IOException e) {
+                // The json data file is still there, so the conversion is simply tried again on the next start
+                logger.warning("Could not write snapshot " + filePath + ": " + e);
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but reads json if {@code filePath} ends in {@code .json}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (isJsonFile(filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readSnapshot(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but writes json if {@code filePath} ends in
+     * {@code .json}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (isJsonFile(filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeSnapshot(out, addressBook.getPersonList()));
+    }
+
+    private static boolean isJsonFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(".json");
+    }
+
+    /**
+     * Writes the snapshot of {@code persons} to {@code out}.
+     */
+    private static void writeSnapshot(OutputStream out, List<Person> persons) throws IOException {
+        Map<Name, Integer> parentPositions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) instanceof Parent parent) {
+                parentPositions.put(parent.getName(), i);
+            }
+        }
+
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Person person : persons) {
+            addString(strings, person.getName().fullName);
+            addString(strings, person.getPhone().value);
+            addString(strings, person.getAddress().value);
+            addString(strings, person.getRemark().value);
+            if (person instanceof Student student) {
+                student.getTags().forEach(tag -> addString(strings, tag.tagName));
+                if (hasUnlistedParentName(student, persons, parentPositions)) {
+                    addString(strings, student.getParentName().fullName);
+                }
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            data.writeByte(person instanceof Student ? KIND_STUDENT : KIND_PARENT);
+            data.writeInt(strings.get(person.getName().fullName));
+            data.writeInt(strings.get(person.getPhone().value));
+            data.writeInt(strings.get(person.getAddress().value));
+            data.writeInt(strings.get(person.getRemark().value));
+            if (person instanceof Student student) {
+                data.writeInt(student.hasParent() ? parentPositions.getOrDefault(student.getParentName(), NONE) : NONE);
+                data.writeInt(hasUnlistedParentName(student, persons, parentPositions)
+                        ? strings.get(student.getParentName().fullName) : NONE);
+                data.writeInt(student.getTags().size());
+                for (Tag tag : student.getTags()) {
+                    data.writeInt(strings.get(tag.tagName));
+                }
+                int[] sessionCodes = student.getSessionCodes();
+                data.writeInt(sessionCodes.length);
+                for (int code : sessionCodes) {
+                    data.writeInt(code);
+                }
+            }
+        }
+        data.flush();
+    }
+
+    private static void addString(Map<String, Integer> strings, String string) {
+        strings.putIfAbsent(string, strings.size());
+    }
+
+    /**
+     * Returns true if {@code student} names a parent whose name cannot be taken from a parent among {@code persons},
+     * because there is no such parent or its name differs in case.
+     */
+    private static boolean hasUnlistedParentName(Student student, List<Person> persons,
+            Map<Name, Integer> parentPositions) {
+        if (!student.hasParent()) {
+            return false;
+        }
+        Integer position = parentPositions.get(student.getParentName());
+        return position == null
+                || !persons.get(position).getName().fullName.equals(student.getParentName().fullName);
+    }
+
+    /**
+     * Reads a snapshot from {@code in} into the model's {@code AddressBook}, with parents and students linked.
+     */
+    private static AddressBook readSnapshot(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int version = in.readInt();
+        if (version != VERSION && version != VERSION_NAMED_PARENTS) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[readCount(in)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(in)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        StringTable table = new StringTable(strings);
+
+        int personCount = readCount(in);
+        int[] parentPositions = new int[personCount];
+        Arrays.fill(parentPositions, NONE);
+        List<Person> persons = new ArrayList<>();
+        try {
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(in, table, version, parentPositions, i));
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+        if (version == VERSION_NAMED_PARENTS) {
+            return JsonAddressBookReader.toAddressBook(persons);
+        }
+
+        for (int i = 0; i < personCount; i++) {
+            if (parentPositions[i] != NONE) {
+                linkParent((Student) persons.get(i), parentPositions[i], persons);
+            }
+        }
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the person at {@code position} from {@code in}, recording the position of its parent, if it is a
+     * student whose parent is among the persons, in {@code parentPositions}.
+     */
+    private static Person readPerson(DataInputStream in, StringTable table, int version, int[] parentPositions,
+            int position) throws IOException, IllegalValueException {
+        byte kind = in.readByte();
+        Name name = table.get(in.readInt(), Name.class, Name::new);
+        Phone phone = table.get(in.readInt(), Phone.class, Phone::new);
+        Address address = table.get(in.readInt(), Address.class, Address::new);
+        Remark remark = table.get(in.readInt(), Remark.class, Remark::new);
+        if (kind == KIND_PARENT) {
+            return new Parent(name, phone, address, remark);
+        }
+        if (kind != KIND_STUDENT) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+
+        if (version != VERSION_NAMED_PARENTS) {
+            parentPositions[position] = in.readInt();
+        }
+        int parentIndex = in.readInt();
+        Name parentName = parentIndex == NONE ? null : table.get(parentIndex, Name.class, Name::new);
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = readCount(in);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(table.get(in.readInt(), Tag.class, Tag::new));
+        }
+        Set<Session> sessions = new HashSet<>();
+        int sessionCount = readCount(in);
+        for (int i = 0; i < sessionCount; i++) {
+            sessions.add(Session.fromCode(in.readInt()));
+        }
+        return new Student(name, phone, address, remark, tags, sessions, parentName);
+    }
+
+    /**
+     * Links {@code student} to the parent at {@code parentPosition} among {@code persons}, naming that parent unless
+     * the student already names it.
+     *
+     * @throws IllegalValueException if there is no parent at {@code parentPosition}.
+     */
+    private static void linkParent(Student student, int parentPosition, List<Person> persons)
+            throws IllegalValueException {
+        if (parentPosition < 0 || parentPosition >= persons.size()
+                || !(persons.get(parentPosition) instanceof Parent parent)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        if (!student.hasParent()) {
+            student.setParentName(parent.getName());
+        }
+        student.setParent(parent);
+        parent.addChild(student);
+    }
+
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        return count;
+    }
+
+    /**
+     * The strings of a snapshot, each converted into a model object of a given class at most once.
+     */
+    private static class StringTable {
+        private final String[] strings;
+        private final Map<Class<?>, Object[]> valuesByClass = new HashMap<>();
+
+        StringTable(String[] strings) {
+            this.strings = strings;
+        }
+
+        /**
+         * Returns the string at {@code index} converted by {@code factory} into an object of class {@code type}.
+         *
+         * @throws IllegalValueException if there is no string at {@code index}.
+         */
+        <T> T get(int index, Class<T> type, Function<String, T> factory) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            Object[] values = valuesByClass.computeIfAbsent(type, unused -> new Object[strings.length]);
+            if (values[index] == null) {
+                values[index] = factory.apply(strings[index]);
+            }
+            return type.cast(values[index]);
+        }
+    }
+}
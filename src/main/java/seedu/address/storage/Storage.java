@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +31,42 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every address book saved so far has been written to the disk, along with its backup.
+     * @throws IOException if the last of those writes failed and its failure has not been reported yet.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Starts calling {@code listener} with the address book in the data file each time the file is changed other
+     * than through this storage, such as by a file-sync tool. {@code listener} is called on a background thread.
+     * @throws IOException if the data file could not be watched.
+     */
+    void watchAddressBookFile(Consumer<ReadOnlyAddressBook> listener) throws IOException;
+
+    /**
+     * Returns true if {@code addressBook}, last passed to the listener of {@link #watchAddressBookFile}, is still what
+     * the data file holds: the file has not been read, saved to or changed again since, and no save is waiting to be
+     * written. An address book that is not, and so may be older than the model, must not be merged into it.
+     */
+    boolean isLatestReload(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Stops watching the data file, if it is being watched.
+     */
+    void stopWatchingAddressBookFile();
+
+    /**
+     * Returns the versions of the address book kept in backups, oldest first, each known by the time it was backed
+     * up in milliseconds since the epoch, or an empty list if no backups are kept.
+     * @throws DataLoadingException if the backups could not be read.
+     */
+    List<Long> readBackupVersions() throws DataLoadingException;
+
+    /**
+     * Returns the address book as it was at {@code version}, or {@code Optional.empty()} if that version is not kept.
+     * @throws DataLoadingException if the backup of the version could not be read.
+     */
+    Optional<ReadOnlyAddressBook> readBackup(long version) throws DataLoadingException;
+
 }
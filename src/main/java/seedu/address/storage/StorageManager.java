@@ -2,30 +2,101 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * In write-behind mode, address books saved to the default file are written by a single background thread instead
+ * of the caller. A snapshot of the address book is queued for each save, and a save queued while an earlier one is
+ * still waiting replaces it, so only the latest snapshot is written.
+ * The data file can be watched for changes made other than through this storage, which are told apart from its own
+ * writes by a stamp of the file taken after each of them.
+ * Each address book saved to the default file can also be backed up by a background thread of its own, so that a
+ * slow or failed backup never holds up or fails a save. Backups are queued the same way as write-behind saves, and
+ * old backups are pruned on a schedule.
  */
 public class StorageManager implements Storage {
 
+    private static final long PRUNE_INTERVAL_MINUTES = 30;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // Writes the queued snapshots in write-behind mode, and is null otherwise
+    private final ExecutorService writer;
+
+    // The latest snapshot waiting to be written, and the failure of the last write if no write has succeeded since
+    // it was reported; both guarded by this
+    private ReadOnlyAddressBook pendingSnapshot;
+    private IOException saveFailure;
+
+    // Held while the default data file is read or written; guards the stamp of the file as last read or written here,
+    // and the address book last reloaded after the file changed elsewhere, until the file is next read or written
+    private final Object fileLock = new Object();
+    private DataFileWatcher.Stamp knownStamp;
+    private ReadOnlyAddressBook lastReload;
+    private DataFileWatcher watcher;
+
+    // The backups of the address book and the thread that writes and reads them, both null if none are kept; the
+    // latest snapshot waiting to be backed up is guarded by this
+    private final AddressBookBackups backups;
+    private final ScheduledExecutorService backupWriter;
+    private ReadOnlyAddressBook pendingBackup;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which writes address books in the background if {@code isWriteBehind} is true.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind) {
+        this(addressBookStorage, userPrefsStorage, isWriteBehind, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which writes address books in the background if {@code isWriteBehind} is true, and backs up each address book
+     * saved to {@code backups} unless it is null.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind, AddressBookBackups backups) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = isWriteBehind ? Executors.newSingleThreadExecutor(StorageManager::newWriterThread) : null;
+        this.backups = backups;
+        if (backups == null) {
+            this.backupWriter = null;
+            return;
+        }
+        this.backupWriter = Executors.newSingleThreadScheduledExecutor(StorageManager::newBackupThread);
+        // Pruning starts right away, as the app may not run long enough to reach the first interval
+        backupWriter.scheduleWithFixedDelay(backups::prune, 0, PRUNE_INTERVAL_MINUTES, TimeUnit.MINUTES);
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,18 +132,320 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        if (!isDefaultFile(filePath)) {
+            return addressBookStorage.readAddressBook(filePath);
+        }
+        synchronized (fileLock) {
+            Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+            rememberStamp();
+            return addressBook;
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * In write-behind mode, the address book is only queued to be written, and the failure of an earlier write that
+     * has not been reported yet is thrown instead.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (writer == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            if (backups != null) {
+                queueBackup(snapshotOf(addressBook));
+            }
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = snapshotOf(addressBook);
+        IOException failure;
+        synchronized (this) {
+            if (pendingSnapshot == null) {
+                writer.execute(this::writePendingSnapshot);
+            }
+            pendingSnapshot = snapshot;
+            failure = takeSaveFailure();
+        }
+        if (backups != null) {
+            queueBackup(snapshot);
+        }
+        if (failure != null) {
+            throw failure;
+        }
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flushWrites();
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (!isDefaultFile(filePath)) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        synchronized (fileLock) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            rememberStamp();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushWrites();
+        if (backupWriter != null) {
+            waitFor(backupWriter);
+        }
+    }
+
+    /**
+     * Blocks until every address book saved so far has been written to the disk, without waiting for backups.
+     */
+    private void flushWrites() throws IOException {
+        if (writer == null) {
+            return;
+        }
+
+        waitFor(writer);
+
+        IOException failure;
+        synchronized (this) {
+            failure = takeSaveFailure();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Blocks until every task {@code executor} was given so far has run.
+     */
+    private static void waitFor(ExecutorService executor) {
+        try {
+            // The executor runs tasks in order, so every task queued before this one has run once it is done
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine("Attempting to write to data file in the background: " + filePath);
+        try {
+            synchronized (fileLock) {
+                addressBookStorage.saveAddressBook(snapshot, filePath);
+                rememberStamp();
+            }
+            synchronized (this) {
+                saveFailure = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to write data file in the background: " + e.getMessage());
+            synchronized (this) {
+                saveFailure = e;
+            }
+        }
+    }
+
+    private void queueBackup(ReadOnlyAddressBook snapshot) {
+        synchronized (this) {
+            if (pendingBackup == null) {
+                backupWriter.execute(this::writePendingBackup);
+            }
+            pendingBackup = snapshot;
+        }
+    }
+
+    private void writePendingBackup() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingBackup;
+            pendingBackup = null;
+        }
+
+        try {
+            backups.backUp(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to back up address book: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<Long> readBackupVersions() throws DataLoadingException {
+        if (backups == null) {
+            return List.of();
+        }
+        return onBackupThread(backups::readVersions);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackup(long version) throws DataLoadingException {
+        if (backups == null) {
+            return Optional.empty();
+        }
+        return onBackupThread(() -> backups.read(version));
+    }
+
+    /**
+     * Returns the result of {@code task}, run on the backup thread once every backup queued so far has been written.
+     */
+    private <T> T onBackupThread(Callable<T> task) throws DataLoadingException {
+        try {
+            return backupWriter.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException dle) {
+                throw dle;
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void watchAddressBookFile(Consumer<ReadOnlyAddressBook> listener) throws IOException {
+        stopWatchingAddressBookFile();
+        synchronized (fileLock) {
+            rememberStamp();
+        }
+        watcher = new DataFileWatcher(addressBookStorage.getAddressBookFilePath(),
+                () -> reloadChangedFile(listener), DataFileWatcher.DEFAULT_QUIET_MILLIS);
+        watcher.start();
+    }
+
+    @Override
+    public void stopWatchingAddressBookFile() {
+        if (watcher == null) {
+            return;
+        }
+        try {
+            watcher.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching data file: " + e.getMessage());
+        }
+        watcher = null;
+    }
+
+    /**
+     * Reads the data file and passes it to {@code listener} if it has changed since it was last read or written
+     * here.
+     * A change is ignored while a save is waiting to be written, as that save replaces it.
+     */
+    void reloadChangedFile(Consumer<ReadOnlyAddressBook> listener) {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        Optional<ReadOnlyAddressBook> addressBook;
+        synchronized (fileLock) {
+            synchronized (this) {
+                if (pendingSnapshot != null) {
+                    logger.info("Ignoring change to " + filePath + " as a save is about to replace it");
+                    return;
+                }
+            }
+            DataFileWatcher.Stamp stamp = currentStamp();
+            if (Objects.equals(stamp, knownStamp)) {
+                return;
+            }
+
+            logger.info("Data file " + filePath + " was changed outside the app, reloading it");
+            knownStamp = stamp;
+            lastReload = null;
+            try {
+                addressBook = addressBookStorage.readAddressBook();
+            } catch (DataLoadingException e) {
+                logger.warning("Changed data file " + filePath + " could not be loaded, keeping the data in the app: "
+                        + e.getMessage());
+                return;
+            }
+            lastReload = addressBook.orElse(null);
+        }
+        addressBook.ifPresent(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     * A save counts from when it is queued, so that in write-behind mode a save not yet written is not overtaken.
+     */
+    @Override
+    public boolean isLatestReload(ReadOnlyAddressBook addressBook) {
+        synchronized (fileLock) {
+            synchronized (this) {
+                if (pendingSnapshot != null) {
+                    return false;
+                }
+            }
+            return addressBook == lastReload && Objects.equals(currentStamp(), knownStamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Must be called right after the merge, before {@code merged} changes again.
+     */
+    @Override
+    public void rememberMerged(ReadOnlyAddressBook read, ReadOnlyAddressBook merged) {
+        synchronized (fileLock) {
+            addressBookStorage.rememberMerged(read, merged);
+        }
+    }
+
+    private boolean isDefaultFile(Path filePath) {
+        return filePath.equals(addressBookStorage.getAddressBookFilePath());
+    }
+
+    /**
+     * Remembers the current stamp of the data file as the one it has after being read or written here.
+     * Must be called holding {@code fileLock}.
+     */
+    private void rememberStamp() {
+        knownStamp = currentStamp();
+        lastReload = null;
+    }
+
+    private DataFileWatcher.Stamp currentStamp() {
+        try {
+            return DataFileWatcher.stampOf(addressBookStorage.getAddressBookFilePath());
+        } catch (IOException e) {
+            // A file that cannot be looked at is treated as missing until it can be
+            return null;
+        }
+    }
+
+    private IOException takeSaveFailure() {
+        IOException failure = saveFailure;
+        saveFailure = null;
+        return failure;
+    }
+
+    /**
+     * Returns a copy of the person list of {@code addressBook}, which the caller may go on changing.
+     * The persons themselves are shared rather than copied, which is safe across threads as nothing saved of a person
+     * changes once it is in an address book: a changed person, including a student whose parent is renamed, is
+     * replaced by a copy. Only the links between parents and students change in place, and they are not saved.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.observableArrayList(addressBook.getPersonList());
+        ObservableList<Person> unmodifiablePersons = FXCollections.unmodifiableObservableList(persons);
+        return () -> unmodifiablePersons;
+    }
+
+    private static Thread newWriterThread(Runnable task) {
+        Thread thread = new Thread(task, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Thread newBackupThread(Runnable task) {
+        Thread thread = new Thread(task, "address-book-backup");
+        thread.setDaemon(true);
+        return thread;
     }
 
 }
@@ -0,0 +1,78 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generateAddressBook;
+import static seedu.address.benchmark.BenchmarkUtil.toLetters;
+import static seedu.address.benchmark.BenchmarkUtil.toMillis;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Compares how long setting up a term takes, adding students to a book of 10k persons, when the commands are executed
+ * one at a time and when they are executed as one batch.
+ * Executed one at a time, the book is saved after every command; as a batch, it is saved once.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=BatchBenchmark}.
+ */
+public class BatchBenchmark {
+
+    private static final int SIZE = 10_000;
+    private static final int[] PERSONS_ADDED = {100, 400};
+    private static final int RUNS = 3;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("batch-benchmark");
+        AddressBook addressBook = generateAddressBook(SIZE);
+        System.out.printf("%10s %10s %18s %14s%n", "persons", "commands", "one by one (ms)", "batch (ms)");
+
+        for (int added : PERSONS_ADDED) {
+            List<String> commandLines = generateCommandLines(added);
+            long oneByOneNanos = Long.MAX_VALUE;
+            long batchNanos = Long.MAX_VALUE;
+            for (int i = 0; i < RUNS; i++) {
+                Logic logic = newLogic(folder, addressBook);
+                long start = System.nanoTime();
+                for (String commandLine : commandLines) {
+                    logic.execute(commandLine);
+                }
+                oneByOneNanos = Math.min(oneByOneNanos, System.nanoTime() - start);
+
+                logic = newLogic(folder, addressBook);
+                start = System.nanoTime();
+                logic.executeBatch(commandLines);
+                batchNanos = Math.min(batchNanos, System.nanoTime() - start);
+            }
+            System.out.printf("%10d %10d %18.1f %14.1f%n", SIZE, commandLines.size(), toMillis(oneByOneNanos),
+                    toMillis(batchNanos));
+        }
+    }
+
+    private static Logic newLogic(Path folder, AddressBook addressBook) {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("prefs.json")));
+        return new LogicManager(new ModelManager(addressBook, new UserPrefs()), storage);
+    }
+
+    /**
+     * Returns the lines adding {@code count} students.
+     */
+    private static List<String> generateCommandLines(int count) {
+        List<String> commandLines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            commandLines.add(String.format("add n/New Student %s p/9%07d a/%d Term Street, Singapore 123456 "
+                    + "r/student t/math", toLetters(i), i, i));
+        }
+        return commandLines;
+    }
+}
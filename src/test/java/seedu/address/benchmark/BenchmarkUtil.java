@@ -0,0 +1,139 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Helpers shared by the benchmarks in this package.
+ * Benchmarks are plain programs with a {@code main} method, run through the {@code benchmark} Gradle task.
+ */
+public class BenchmarkUtil {
+
+    /** One in every {@code PARENT_INTERVAL} generated persons is a parent. */
+    private static final int PARENT_INTERVAL = 4;
+
+    private static final String[] TAGS = {"math", "physics", "chemistry", "english", "sec1", "sec2", "sec3", "sec4"};
+    private static final String[] DAYS = {"Mon", "Tue", "Wed", "Thur", "Fri", "Sat", "Sun"};
+    private static final String[] TIMES = {"9am-10am", "10:30am-12pm", "1pm-2:30pm", "3pm-5pm", "6pm-7:30pm"};
+
+    /**
+     * Represents a piece of work whose running time is measured.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    /**
+     * Returns {@code count} distinct persons. Every fourth person is a parent, and the students that follow a parent
+     * are its children. Students carry two tags and one session each.
+     */
+    public static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        Name currentParent = null;
+        for (int i = 0; i < count; i++) {
+            Phone phone = new Phone(String.format("9%07d", i % 10_000_000));
+            Address address = new Address(String.format("Blk %d, Clementi Ave 3, #04-%02d", i % 1000, i % 100));
+            Remark remark = new Remark(i % 3 == 0 ? "Prefers evening lessons" : "");
+            if (i % PARENT_INTERVAL == 0) {
+                currentParent = new Name("Parent " + toLetters(i));
+                persons.add(new Parent(currentParent, phone, address, remark));
+                continue;
+            }
+
+            Set<Tag> tags = new HashSet<>();
+            tags.add(new Tag(TAGS[i % 4]));
+            tags.add(new Tag(TAGS[4 + (i / 7) % 4]));
+            Set<Session> sessions = new HashSet<>();
+            sessions.add(new Session(new Day(DAYS[i % DAYS.length]), new Time(TIMES[(i / 7) % TIMES.length])));
+            persons.add(new Student(new Name("Student " + toLetters(i)), phone, address, remark, tags, sessions,
+                    currentParent));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@link #generatePersons(int)} with parents and students linked.
+     */
+    public static AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(count));
+        addressBook.linkAllParents();
+        return addressBook;
+    }
+
+    /**
+     * Encodes {@code number} using letters only, since names may not contain digits.
+     */
+    public static String toLetters(int number) {
+        StringBuilder sb = new StringBuilder();
+        int remaining = number;
+        do {
+            sb.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
+        return sb.toString();
+    }
+
+    /**
+     * Runs {@code task} once to warm up, then {@code runs} more times, and returns the fastest run in nanoseconds.
+     */
+    public static long bestOf(int runs, Task task) throws Exception {
+        task.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the bytes of heap in use, taking the lowest figure over several rounds of garbage collection.
+     */
+    public static long usedHeapBytes() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread.
+     */
+    public static long allocatedBytes() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Converts {@code nanos} to milliseconds.
+     */
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
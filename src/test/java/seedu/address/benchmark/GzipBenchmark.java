@@ -0,0 +1,42 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.bestOf;
+import static seedu.address.benchmark.BenchmarkUtil.generateAddressBook;
+import static seedu.address.benchmark.BenchmarkUtil.toMillis;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares how long loading and saving take with a plain json data file and with a gzip-compressed one, for books of
+ * 10k and 50k persons, along with the size of each file on disk.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=GzipBenchmark}.
+ */
+public class GzipBenchmark {
+
+    private static final int[] SIZES = {10_000, 50_000};
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("gzip-benchmark");
+        System.out.printf("%10s %10s %12s %12s %12s%n", "persons", "format", "load (ms)", "save (ms)", "file (KB)");
+
+        for (int size : SIZES) {
+            AddressBook addressBook = generateAddressBook(size);
+            run(size, "json", folder.resolve("addressbook-" + size + ".json"), addressBook);
+            run(size, "json.gz", folder.resolve("addressbook-" + size + ".json.gz"), addressBook);
+        }
+    }
+
+    private static void run(int size, String format, Path dataFile, AddressBook addressBook) throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(dataFile);
+        long saveNanos = bestOf(RUNS, () -> storage.saveAddressBook(addressBook));
+        long loadNanos = bestOf(RUNS, storage::readAddressBook);
+        System.out.printf("%10d %10s %12.1f %12.1f %12d%n", size, format, toMillis(loadNanos), toMillis(saveNanos),
+                Files.size(dataFile) / 1024);
+    }
+}
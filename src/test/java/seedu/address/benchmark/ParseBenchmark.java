@@ -0,0 +1,61 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.allocatedBytes;
+import static seedu.address.benchmark.BenchmarkUtil.bestOf;
+
+import java.util.List;
+
+import seedu.address.logic.parser.AddressBookParser;
+
+/**
+ * Measures how many command lines the parser gets through, over a mix of lines like those typed in a working
+ * session: mostly adding and editing persons and sessions, with some finding, listing and viewing in between.
+ * Reports the time and the bytes allocated per line.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=ParseBenchmark}.
+ */
+public class ParseBenchmark {
+
+    private static final List<String> COMMAND_LINES = List.of(
+            "add n/John Doe p/98765432 a/311, Clementi Ave 2, #02-25 r/student t/math t/physics",
+            "add n/Betsy Crowe p/81234567 a/Blk 30 Newgate Prison Road r/parent",
+            "addsession 1 d/Mon ti/9am-11am",
+            "addsession 2 d/Wed ti/2pm-4pm",
+            "edit 1 p/91234567 a/12 Kent Ridge Drive, #05-11",
+            "edit 2 n/Betsy Crower t/",
+            "editsession 1 d/Mon ti/9am-11am nd/Tue nti/10am-12pm",
+            "delete 3",
+            "deletesession 1 d/Tue ti/10am-12pm",
+            "find n/alex david r/student",
+            "list",
+            "view 2",
+            "viewsession d/Monday",
+            "remark 1 rm/Likes to swim.",
+            "freeslots d/Mon len/90 ti/9am-6pm",
+            "conflicts");
+    private static final int LINES_PER_RUN = 200_000;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        AddressBookParser parser = new AddressBookParser();
+        String[] lines = new String[LINES_PER_RUN];
+        for (int i = 0; i < LINES_PER_RUN; i++) {
+            lines[i] = COMMAND_LINES.get(i % COMMAND_LINES.size());
+        }
+
+        long nanos = bestOf(RUNS, () -> parseAll(parser, lines));
+        long allocatedBefore = allocatedBytes();
+        parseAll(parser, lines);
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        System.out.printf("%10s %14s %14s%n", "lines", "ns per line", "bytes per line");
+        System.out.printf("%10d %14.0f %14d%n", LINES_PER_RUN, (double) nanos / LINES_PER_RUN,
+                allocated / LINES_PER_RUN);
+    }
+
+    private static void parseAll(AddressBookParser parser, String[] lines) throws Exception {
+        for (String line : lines) {
+            parser.parseCommand(line);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.allocatedBytes;
+import static seedu.address.benchmark.BenchmarkUtil.bestOf;
+import static seedu.address.benchmark.BenchmarkUtil.generateAddressBook;
+import static seedu.address.benchmark.BenchmarkUtil.toMillis;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures how long saving the data file takes for books of 10k and 100k persons, and how much is allocated while
+ * doing so.
+ * Persons are written one at a time, so the bytes allocated per person should stay roughly constant across sizes,
+ * and well below the size of the file, which is no longer built in memory as a whole.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=SaveBenchmark}.
+ */
+public class SaveBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("save-benchmark");
+        System.out.printf("%10s %12s %14s %18s %16s%n", "persons", "save (ms)", "file (KB)", "allocated (KB)",
+                "per person (B)");
+
+        for (int size : SIZES) {
+            Path dataFile = folder.resolve("addressbook-" + size + ".json");
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(dataFile);
+            AddressBook addressBook = generateAddressBook(size);
+
+            long nanos = bestOf(RUNS, () -> storage.saveAddressBook(addressBook));
+            long before = allocatedBytes();
+            storage.saveAddressBook(addressBook);
+            long allocated = allocatedBytes() - before;
+
+            System.out.printf("%10d %12.1f %14d %18d %16d%n", size, toMillis(nanos), Files.size(dataFile) / 1024,
+                    allocated / 1024, allocated / size);
+        }
+    }
+}
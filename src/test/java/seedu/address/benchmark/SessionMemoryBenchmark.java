@@ -0,0 +1,76 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.usedHeapBytes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Time;
+
+/**
+ * Compares the heap taken by 100k sessions in the two layouts a Student has used: a {@code HashSet<Session>} of
+ * {@code Day} and {@code Time} objects, and the sorted array of packed session codes it holds now.
+ * The sessions belong to 25k students with four sessions each, built from fresh strings as they would be when read
+ * from the data file.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=SessionMemoryBenchmark}.
+ */
+public class SessionMemoryBenchmark {
+
+    private static final int STUDENTS = 25_000;
+    private static final int SESSIONS_PER_STUDENT = 4;
+    private static final int SESSIONS = STUDENTS * SESSIONS_PER_STUDENT;
+
+    private static final String[] DAYS = {"Mon", "Tue", "Wed", "Thur", "Fri", "Sat", "Sun"};
+    private static final String[] TIMES = {"9am-10am", "10:30am-12pm", "1pm-2:30pm", "3pm-5pm", "6pm-7:30pm"};
+
+    public static void main(String[] args) throws Exception {
+        long baseline = usedHeapBytes();
+        List<Set<Session>> objectLayout = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            Set<Session> sessions = new HashSet<>();
+            for (int j = 0; j < SESSIONS_PER_STUDENT; j++) {
+                sessions.add(readSession(i, j));
+            }
+            objectLayout.add(sessions);
+        }
+        long objectBytes = usedHeapBytes() - baseline;
+        report("HashSet<Session>", objectBytes, objectLayout.size());
+
+        objectLayout = null;
+        baseline = usedHeapBytes();
+        List<int[]> packedLayout = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            int[] codes = new int[SESSIONS_PER_STUDENT];
+            for (int j = 0; j < SESSIONS_PER_STUDENT; j++) {
+                codes[j] = readSession(i, j).toCode();
+            }
+            Arrays.sort(codes);
+            packedLayout.add(codes);
+        }
+        long packedBytes = usedHeapBytes() - baseline;
+        report("int[] codes", packedBytes, packedLayout.size());
+
+        System.out.printf("packed layout uses %.1fx less heap%n", (double) objectBytes / packedBytes);
+    }
+
+    /**
+     * Returns the {@code j}th session of student {@code i}, parsed from newly allocated strings.
+     * The sessions of one student fall on different days, so they never overlap.
+     */
+    private static Session readSession(int i, int j) {
+        String day = new String(DAYS[(i + j) % DAYS.length]);
+        String time = new String(TIMES[(i / DAYS.length + j) % TIMES.length]);
+        return new Session(new Day(day), new Time(time));
+    }
+
+    private static void report(String layout, long bytes, int students) {
+        System.out.printf("%-18s %8.2f MB %8.1f bytes/session (%d students)%n",
+                layout, bytes / 1024.0 / 1024.0, (double) bytes / SESSIONS, students);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.bestOf;
+import static seedu.address.benchmark.BenchmarkUtil.generateAddressBook;
+import static seedu.address.benchmark.BenchmarkUtil.toMillis;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.SnapshotAddressBookStorage;
+
+/**
+ * Compares how long loading and saving take with json and with a binary snapshot, for books of 10k and 100k
+ * persons, along with the size of the file each writes.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=SnapshotBenchmark}.
+ */
+public class SnapshotBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("snapshot-benchmark");
+        System.out.printf("%10s %10s %12s %12s %12s%n", "persons", "format", "load (ms)", "save (ms)", "file (KB)");
+
+        for (int size : SIZES) {
+            AddressBook addressBook = generateAddressBook(size);
+            Path jsonFile = folder.resolve("addressbook-" + size + ".json");
+            run(size, "json", new JsonAddressBookStorage(jsonFile), addressBook);
+            run(size, "snapshot", new SnapshotAddressBookStorage(jsonFile), addressBook);
+        }
+    }
+
+    private static void run(int size, String format, AddressBookStorage storage, AddressBook addressBook)
+            throws Exception {
+        long saveNanos = bestOf(RUNS, () -> storage.saveAddressBook(addressBook));
+        long loadNanos = bestOf(RUNS, storage::readAddressBook);
+        System.out.printf("%10d %10s %12.1f %12.1f %12d%n", size, format, toMillis(loadNanos), toMillis(saveNanos),
+                Files.size(storage.getAddressBookFilePath()) / 1024);
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.bestOf;
+import static seedu.address.benchmark.BenchmarkUtil.generateAddressBook;
+import static seedu.address.benchmark.BenchmarkUtil.toMillis;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures how long loading the data file takes at startup for books of 1k, 10k and 100k persons.
+ * Loading should scale linearly, so the time per person should stay roughly constant across sizes.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=StartupLoadBenchmark}.
+ */
+public class StartupLoadBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("startup-load-benchmark");
+        System.out.printf("%10s %12s %16s%n", "persons", "load (ms)", "per person (us)");
+
+        for (int size : SIZES) {
+            Path dataFile = folder.resolve("addressbook-" + size + ".json");
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(dataFile);
+            storage.saveAddressBook(generateAddressBook(size));
+
+            long nanos = bestOf(RUNS, storage::readAddressBook);
+            System.out.printf("%10d %12.1f %16.2f%n", size, toMillis(nanos), nanos / 1000.0 / size);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.bestOf;
+import static seedu.address.benchmark.BenchmarkUtil.generateAddressBook;
+import static seedu.address.benchmark.BenchmarkUtil.toMillis;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares how long loading a data file of 50k persons takes when the file is exactly as the app wrote it, so that
+ * its persons are not checked field by field, with loading the same file when every field is checked.
+ * A file without a schema version, as written by older versions of the app, is checked in a single pass. A file
+ * edited after the app wrote it is first read trusting it, and read again checking every field once its checksum
+ * shows the edit.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=TrustedLoadBenchmark}.
+ */
+public class TrustedLoadBenchmark {
+
+    private static final int SIZE = 50_000;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("trusted-load-benchmark");
+        Path trustedFile = folder.resolve("trusted.json");
+        new JsonAddressBookStorage(trustedFile).saveAddressBook(generateAddressBook(SIZE));
+        String json = Files.readString(trustedFile);
+
+        Path unversionedFile = folder.resolve("unversioned.json");
+        Files.writeString(unversionedFile, json.replaceFirst("\"schemaVersion\" : \\d+,", ""));
+        Path editedFile = folder.resolve("edited.json");
+        Files.writeString(editedFile, json.replaceFirst("\"checksum\" : \\d+", "\"checksum\" : 0"));
+
+        System.out.printf("%12s %12s %16s%n", "file", "load (ms)", "per person (us)");
+        run("trusted", trustedFile);
+        run("unversioned", unversionedFile);
+        run("edited", editedFile);
+    }
+
+    private static void run(String name, Path dataFile) throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(dataFile);
+        long nanos = bestOf(RUNS, storage::readAddressBook);
+        System.out.printf("%12s %12.1f %16.2f%n", name, toMillis(nanos), nanos / 1000.0 / SIZE);
+    }
+}
@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,59 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_newFileInMissingFolder_success() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+
+        // no temporary file is left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_gzipPath_compressed() throws Exception {
+        Path file = testFolder.resolve("file.txt.gz");
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        try (GZIPInputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertEquals("new", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void readFromFile_formatNotMatchingName_detected() throws Exception {
+        // plain content in a file named as compressed
+        Path plainFile = testFolder.resolve("plain.txt.gz");
+        Files.writeString(plainFile, "plain");
+        assertEquals("plain", FileUtil.readFromFile(plainFile));
+
+        // compressed content in a file named as plain
+        Path compressedFile = testFolder.resolve("compressed.txt");
+        FileUtil.writeToFile(testFolder.resolve("compressed.txt.gz"), "compressed");
+        Files.move(testFolder.resolve("compressed.txt.gz"), compressedFile);
+        assertEquals("compressed", FileUtil.readFromFile(compressedFile));
+
+        // files shorter than the gzip header
+        Path shortFile = testFolder.resolve("short.txt");
+        FileUtil.writeToFile(shortFile, "a");
+        assertEquals("a", FileUtil.readFromFile(shortFile));
+        FileUtil.writeToFile(shortFile, "");
+        assertEquals("", FileUtil.readFromFile(shortFile));
+    }
+
 }
@@ -0,0 +1,90 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookBackups;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Contains integration tests (interaction with the Model and Storage) for {@code BackupRestorer}.
+ */
+public class BackupRestorerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private BackupRestorer backupRestorer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")), false,
+                new AddressBookBackups(testFolder.resolve("backups"), 2));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        storage.saveAddressBook(model.getAddressBook());
+        backupRestorer = new BackupRestorer(storage);
+    }
+
+    @Test
+    public void execute_noIndex_versionsListedNewestFirst() throws Exception {
+        CommandResult result = backupRestorer.execute(model, Optional.empty());
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].startsWith("1. "));
+        assertTrue(lines[2].startsWith("2. "));
+        // listing leaves the address book as it is
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.addPerson(HOON);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_validIndex_versionRestored() throws Exception {
+        CommandResult result = backupRestorer.execute(model, Optional.of(INDEX_SECOND_PERSON));
+        assertTrue(result.getFeedbackToUser().startsWith(BackupRestorer.MESSAGE_RESTORE_SUCCESS.split("%")[0]));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        assertThrows(CommandException.class, BackupRestorer.MESSAGE_INVALID_VERSION_INDEX, () ->
+                backupRestorer.execute(model, Optional.of(Index.fromOneBased(3))));
+    }
+
+    @Test
+    public void execute_noBackups_throwsCommandException() {
+        BackupRestorer restorerWithoutBackups = new BackupRestorer(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("other.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        assertThrows(CommandException.class, BackupRestorer.MESSAGE_NO_BACKUPS, () ->
+                restorerWithoutBackups.execute(model, Optional.empty()));
+        assertThrows(CommandException.class, BackupRestorer.MESSAGE_NO_BACKUPS, () ->
+                restorerWithoutBackups.execute(model, Optional.of(INDEX_FIRST_PERSON)));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,7 +14,10 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,8 +26,11 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -70,6 +78,11 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_restoreWithoutBackups_throwsCommandException() {
+        assertCommandException(RestoreCommand.COMMAND_WORD, BackupRestorer.MESSAGE_NO_BACKUPS);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -82,6 +95,86 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressbook.json");
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(addressBookPath));
+
+        // a read-only command after a change does not write the file again
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY);
+        assertTrue(Files.exists(addressBookPath));
+        Files.delete(addressBookPath);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void mergeChangedFile_savedAddressBook_notSavedAgain() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressbook.json");
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public boolean isLatestReload(ReadOnlyAddressBook addressBook) {
+                return true;
+            }
+        });
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY);
+        Files.delete(addressBookPath);
+
+        AddressBook changedFile = new AddressBook(model.getAddressBook());
+        changedFile.addPerson(new StudentBuilder().withName("Bob Choo").build());
+        logic.mergeChangedFile(changedFile);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(addressBookPath));
+
+        // a change not saved is kept rather than replaced by the file
+        model.addPerson(new StudentBuilder().withName("Cara Dee").build());
+        logic.mergeChangedFile(changedFile);
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void mergeChangedFile_notLatestReload_nothingMerged() {
+        AddressBook changedFile = new AddressBook();
+        changedFile.addPerson(new StudentBuilder().withName("Bob Choo").build());
+        logic.mergeChangedFile(changedFile);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void executeBatch_validCommands_savedOnce() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressbook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        String addAmy = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+        CommandResult result = logic.executeBatch(List.of(addAmy, "addsession 1 d/Mon ti/9am-10am",
+                ListCommand.COMMAND_WORD));
+        assertEquals(String.format(LogicManager.MESSAGE_BATCH_SUCCESS, 3), result.getFeedbackToUser());
+        assertEquals(1, saveCount.get());
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void executeBatch_failingCommand_nothingSaved() {
+        Path addressBookPath = temporaryFolder.resolve("addressbook.json");
+        String addAmy = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), () -> logic.executeBatch(List.of(addAmy, "delete 9")));
+        assertEquals(new ModelManager(), model);
+        assertFalse(Files.exists(addressBookPath));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
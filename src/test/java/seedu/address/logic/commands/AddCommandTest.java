@@ -8,9 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,8 +24,14 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RoleContainsKeywordsPredicate;
+import seedu.address.model.person.Session;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.Time;
+import seedu.address.model.session.SessionConflict;
 import seedu.address.testutil.StudentBuilder;
 
 /**
@@ -165,12 +172,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public void mergeAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Model beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void commitBatch(Model batch) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /** {@inheritDoc} */
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /** {@inheritDoc} */
         @Override
         public boolean hasPerson(Person person) {
@@ -201,6 +232,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public List<Person> getPersonsWithSessionsOverlapping(Session session) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<SessionConflict> getSessionConflicts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<Time> getFreeSlots(DayOfWeek day, Time window, int minLength) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Predicate<Person> findPersons(NameContainsKeywordsPredicate namePredicate,
+                RoleContainsKeywordsPredicate rolePredicate, TagContainsKeywordsPredicate tagPredicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /** {@inheritDoc} */
         @Override
         public ObservableList<Person> getFilteredPersonList() {
@@ -213,14 +269,10 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        /**
-         * Sort hook used by new view-session flow.
-         * No-op in this stub since add does not depend on order.
-         * @param comparator person comparator
-         */
+        /** {@inheritDoc} */
         @Override
-        public void sortFilteredPersonList(Comparator<Person> comparator) {
-            // no-op
+        public void showPersonsWithSessionsOn(DayOfWeek day) {
+            throw new AssertionError("This method should not be called.");
         }
     }
 
@@ -101,6 +101,20 @@ public class AddSessionCommandTest {
         assertCommandFailure(overlapAdd, model, AddSessionCommand.MESSAGE_OVERLAPPING_SESSION);
     }
 
+    @Test
+    public void execute_clashWithAnotherStudent_throwsCommandException() {
+        Student student = new StudentBuilder().build();
+        Student otherStudent = new StudentBuilder().withName("Bernice Yu")
+                .withSessions(new Session(new Day("Mon"), new Time("2pm-3pm"))).build();
+        AddressBook ab = new AddressBook();
+        ab.addPerson(student);
+        ab.addPerson(otherStudent);
+        Model model = new ModelManager(ab, new UserPrefs());
+
+        AddSessionCommand command = new AddSessionCommand(Index.fromOneBased(1), new Day("Monday"),
+                new Time("2:30pm-4pm"));
+        assertCommandFailure(command, model, String.format(AddSessionCommand.MESSAGE_CLASHING_SESSION, "Bernice Yu"));
+    }
 
     @Test
     public void execute_onParent_throwsCommandException() {
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +35,14 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different backupsRequested value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", false, false, true, null)));
+
+        // different backupToRestore value -> returns false
+        CommandResult restoreResult = new CommandResult("feedback", false, false, true, INDEX_FIRST_PERSON);
+        assertTrue(restoreResult.equals(new CommandResult("feedback", false, false, true, INDEX_FIRST_PERSON)));
+        assertFalse(restoreResult.equals(new CommandResult("feedback", false, false, true, INDEX_SECOND_PERSON)));
     }
 
     @Test
@@ -57,7 +67,8 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", backupsRequested=" + commandResult.isBackupsRequested()
+                + ", backupToRestore=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
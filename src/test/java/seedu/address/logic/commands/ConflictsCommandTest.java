@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Time;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ConflictsCommand.
+ */
+public class ConflictsCommandTest {
+
+    @Test
+    public void execute_noClashingSessions_reportsNone() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new StudentBuilder().withName("Alex").withSessions(session("Mon", "1pm-2pm")).build());
+        addressBook.addPerson(new StudentBuilder().withName("Bernice").withSessions(session("Mon", "2pm-3pm")).build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        assertCommandSuccess(new ConflictsCommand(), model, ConflictsCommand.MESSAGE_NO_CONFLICTS, expectedModel);
+    }
+
+    @Test
+    public void execute_clashingSessions_listsEveryPair() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new StudentBuilder().withName("Alex")
+                .withSessions(session("Mon", "1pm-3pm"), session("Tue", "9am-10am")).build());
+        addressBook.addPerson(new StudentBuilder().withName("Bernice").withSessions(session("Mon", "2pm-4pm")).build());
+        addressBook.addPerson(new StudentBuilder().withName("Charlie")
+                .withSessions(session("Mon", "2:30pm-3:30pm"), session("Tue", "10am-11am")).build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_CONFLICTS_FOUND, 3)
+                + "\n1. Alex Mon-[1pm-3pm] and Bernice Mon-[2pm-4pm]"
+                + "\n2. Alex Mon-[1pm-3pm] and Charlie Mon-[2:30pm-3:30pm]"
+                + "\n3. Bernice Mon-[2pm-4pm] and Charlie Mon-[2:30pm-3:30pm]";
+        assertCommandSuccess(new ConflictsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ConflictsCommand conflictsCommand = new ConflictsCommand();
+        assertTrue(conflictsCommand.equals(new ConflictsCommand()));
+        assertFalse(conflictsCommand.equals(null));
+        assertFalse(conflictsCommand.equals(new ListCommand()));
+    }
+
+    private static Session session(String day, String time) {
+        return new Session(new Day(day), new Time(time));
+    }
+}
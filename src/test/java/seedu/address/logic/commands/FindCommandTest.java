@@ -24,7 +24,9 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for
@@ -174,6 +176,22 @@ public class FindCommandTest {
         assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personsChangedAfterFind_filterStaysCorrect() {
+        NameContainsKeywordsPredicate predicate = prepareNamePredicate("Kurz");
+        FindCommand command = new FindCommand(predicate, new RoleContainsKeywordsPredicate(Collections.emptyList()),
+                new TagContainsKeywordsPredicate(Collections.emptyList()));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+
+        Student hoon = new StudentBuilder().withName("Hoon Kurz").build();
+        model.addPerson(hoon);
+        assertEquals(Arrays.asList(CARL, hoon), model.getFilteredPersonList());
+
+        model.setPerson(CARL, new StudentBuilder(CARL).withName("Carl Meier").build());
+        assertEquals(Collections.singletonList(hoon), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Time;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FreeSlotsCommand.
+ */
+public class FreeSlotsCommandTest {
+
+    private static final Day MONDAY = new Day("Mon");
+    private static final Time WORKING_HOURS = new Time("9am-6pm");
+
+    @Test
+    public void execute_sessionsOnDay_listsGapsLongEnough() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new StudentBuilder().withName("Alex")
+                .withSessions(session("Mon", "10am-11am"), session("Mon", "4pm-5pm")).build());
+        addressBook.addPerson(new StudentBuilder().withName("Bernice")
+                .withSessions(session("Mon", "11:30am-1pm"), session("Tue", "9am-6pm")).build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_FREE_SLOTS_FOUND, 60, MONDAY, WORKING_HOURS)
+                + "\n1. 9am-10am"
+                + "\n2. 1pm-4pm"
+                + "\n3. 5pm-6pm";
+        assertCommandSuccess(new FreeSlotsCommand(MONDAY, 60, WORKING_HOURS), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noGapLongEnough_reportsNone() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new StudentBuilder().withName("Alex")
+                .withSessions(session("Mon", "9am-1pm"), session("Mon", "2pm-6pm")).build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_NO_FREE_SLOTS, 90, MONDAY, WORKING_HOURS);
+        assertCommandSuccess(new FreeSlotsCommand(MONDAY, 90, WORKING_HOURS), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotsCommand freeSlotsCommand = new FreeSlotsCommand(MONDAY, 60, WORKING_HOURS);
+        assertTrue(freeSlotsCommand.equals(freeSlotsCommand));
+        assertTrue(freeSlotsCommand.equals(new FreeSlotsCommand(new Day("Monday"), 60, new Time("9am-6pm"))));
+        assertFalse(freeSlotsCommand.equals(null));
+        assertFalse(freeSlotsCommand.equals(new FreeSlotsCommand(new Day("Tue"), 60, WORKING_HOURS)));
+        assertFalse(freeSlotsCommand.equals(new FreeSlotsCommand(MONDAY, 90, WORKING_HOURS)));
+        assertFalse(freeSlotsCommand.equals(new FreeSlotsCommand(MONDAY, 60, FreeSlotsCommand.DEFAULT_WORKING_HOURS)));
+    }
+
+    private static Session session(String day, String time) {
+        return new Session(new Day(day), new Time(time));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains unit tests for {@code RestoreCommand}.
+ */
+public class RestoreCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noIndex_listingRequested() {
+        CommandResult expectedResult = new CommandResult(RestoreCommand.MESSAGE_LISTING, false, false, true, null);
+        assertEquals(expectedResult, new RestoreCommand().execute(model));
+        // asking leaves the address book as it is
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_index_restoreRequested() {
+        CommandResult result = new RestoreCommand(INDEX_SECOND_PERSON).execute(model);
+        assertTrue(result.isBackupsRequested());
+        assertEquals(Optional.of(INDEX_SECOND_PERSON), result.getBackupToRestore());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand listCommand = new RestoreCommand();
+        RestoreCommand restoreFirstCommand = new RestoreCommand(INDEX_FIRST_PERSON);
+
+        // same object -> returns true
+        assertTrue(restoreFirstCommand.equals(restoreFirstCommand));
+
+        // same values -> returns true
+        assertTrue(restoreFirstCommand.equals(new RestoreCommand(INDEX_FIRST_PERSON)));
+        assertTrue(listCommand.equals(new RestoreCommand()));
+
+        // different types -> returns false
+        assertFalse(restoreFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(restoreFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(restoreFirstCommand.equals(new RestoreCommand(INDEX_SECOND_PERSON)));
+        assertFalse(restoreFirstCommand.equals(listCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RestoreCommand restoreCommand = new RestoreCommand(INDEX_FIRST_PERSON);
+        String expected = RestoreCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_FIRST_PERSON + "}";
+        assertEquals(expected, restoreCommand.toString());
+    }
+}
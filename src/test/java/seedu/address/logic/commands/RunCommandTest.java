@@ -0,0 +1,188 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_CHARLES;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.ParentBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code RunCommand}.
+ */
+public class RunCommandTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY
+            + ROLE_DESC_AMY;
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validScript_sameAsEachCommandRun() throws Exception {
+        List<String> lines = List.of("# new term", ADD_AMY, "", "addsession 8 d/Tue ti/9am-1pm", "find n/Amy");
+        Path script = writeScript(lines);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBookParser parser = new AddressBookParser();
+        for (String line : lines.subList(1, lines.size())) {
+            if (!line.isEmpty()) {
+                parser.parseCommand(line).execute(expectedModel);
+            }
+        }
+
+        CommandResult result = new RunCommand(script).execute(model);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, script), result.getFeedbackToUser());
+        assertEquals(expectedModel, model);
+        // The filter chosen by the script is not taken on, so every person is shown
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+        Student amy = (Student) expectedModel.getFilteredPersonList().get(0);
+        assertEquals(amy, model.getFilteredPersonList().get(model.getFilteredPersonList().size() - 1));
+        assertEquals(1, amy.getSessions().size());
+    }
+
+    @Test
+    public void execute_failingLine_noChangesMade() throws Exception {
+        Path script = writeScript(List.of(ADD_AMY, "delete 99"));
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandFailure(new RunCommand(script), model, expectedMessage);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_unparsableLine_nothingRun() throws Exception {
+        Path script = writeScript(List.of(ADD_AMY, "", "dance"));
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 3, MESSAGE_UNKNOWN_COMMAND);
+        assertCommandFailure(new RunCommand(script), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_nestedScript_nothingRun() throws Exception {
+        Path script = writeScript(List.of(ADD_AMY, RunCommand.COMMAND_WORD + " other.txt"));
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 2, RunCommand.MESSAGE_NESTED_SCRIPT);
+        assertCommandFailure(new RunCommand(script), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_restoreInScript_nothingRun() throws Exception {
+        Path script = writeScript(List.of(ADD_AMY, RestoreCommand.COMMAND_WORD + " 1"));
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 2, RunCommand.MESSAGE_RESTORE_IN_SCRIPT);
+        assertCommandFailure(new RunCommand(script), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path script = testFolder.resolve("missing.txt");
+        RunCommand command = new RunCommand(script);
+        try {
+            command.execute(model);
+            throw new AssertionError("Running a missing script should fail.");
+        } catch (CommandException e) {
+            assertTrue(e.getMessage().startsWith("Could not read script " + script));
+        }
+    }
+
+    @Test
+    public void execute_failingLineAfterParentRenamed_linksUnchanged() throws Exception {
+        Parent parent = new ParentBuilder().withName(VALID_NAME_CHARLES).build();
+        Student child = new StudentBuilder().withParentName(VALID_NAME_CHARLES).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(parent);
+        addressBook.addPerson(child);
+        model = new ModelManager(addressBook, new UserPrefs());
+        int parentIndex = model.getFilteredPersonList().indexOf(parent) + 1;
+
+        Path script = writeScript(List.of(EditCommand.COMMAND_WORD + " " + parentIndex + " n/Charles Tan",
+                "delete 99"));
+        assertCommandFailure(new RunCommand(script), model, String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+
+        // The rename was made on copies of the persons, so the persons of the model were never touched
+        Student childInModel = (Student) model.getFilteredPersonList().stream()
+                .filter(person -> person instanceof Student).findFirst().get();
+        assertEquals(VALID_NAME_CHARLES, childInModel.getParentName().fullName);
+        Parent parentInModel = (Parent) model.getFilteredPersonList().stream()
+                .filter(person -> person instanceof Parent).findFirst().get();
+        assertTrue(parentInModel.hasChild(childInModel));
+    }
+
+    @Test
+    public void execute_readOnlyScript_addressBookNotChanged() throws Exception {
+        long version = model.getAddressBookVersion();
+        Person first = model.getFilteredPersonList().get(0);
+        new RunCommand(writeScript(List.of("find n/Alice", ListCommand.COMMAND_WORD))).execute(model);
+        assertEquals(version, model.getAddressBookVersion());
+        // The persons are the ones the model held before, not copies
+        assertSame(first, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Path.of("first.txt"));
+        RunCommand runSecondCommand = new RunCommand(Path.of("second.txt"));
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Path.of("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path script = Path.of("first.txt");
+        RunCommand runCommand = new RunCommand(script);
+        String expected = RunCommand.class.getCanonicalName() + "{scriptFile=" + script + "}";
+        assertEquals(expected, runCommand.toString());
+    }
+
+    private Path writeScript(List<String> lines) throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, lines);
+        return script;
+    }
+}
@@ -5,8 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 
 import java.nio.file.Path;
 import java.time.DayOfWeek;
-import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -14,22 +14,26 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Day;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
+import seedu.address.model.person.RoleContainsKeywordsPredicate;
 import seedu.address.model.person.Session;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.person.Time;
+import seedu.address.model.session.SessionConflict;
 import seedu.address.model.session.SessionSlot;
 
 /**
@@ -72,6 +76,25 @@ public class ViewSessionCommandExecuteTest {
         );
     }
 
+    /**
+     * Verify the ordering follows session edits made after the command, as the schedule index is read live.
+     */
+    @Test
+    public void execute_sessionEditedAfterwards_orderUpdated() {
+        Student alex = student("Alex", new Session(new Day("Mon"), new Time("12pm-1pm")));
+        Student bernice = student("Bernice", new Session(new Day("Mon"), new Time("1pm-2pm")));
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(alex, bernice));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        new ViewSessionCommand(DayOfWeek.MONDAY).execute(model);
+        assertIterableEquals(List.of(alex, bernice), model.getFilteredPersonList());
+
+        Student earlierBernice = student("Bernice", new Session(new Day("Mon"), new Time("11am-12pm")));
+        model.setPerson(model.getFilteredPersonList().get(1), earlierBernice);
+        assertIterableEquals(List.of(earlierBernice, alex), model.getFilteredPersonList());
+    }
+
     /**
      * Build student with supplied sessions and neutral values that satisfy validators.
      * Address and phone match project constraints (pattern mirrors typical seed data).
@@ -96,15 +119,14 @@ public class ViewSessionCommandExecuteTest {
     }
 
     /**
-     * Minimal model stub that mirrors production filtered→sorted pipeline using
-     * {@link FilteredList} and {@link SortedList}. Only methods exercised by
-     * {@link ViewSessionCommand} are implemented.
+     * Minimal model stub that shows the persons the address book's schedule index lists for a day.
+     * Only methods exercised by {@link ViewSessionCommand} are implemented.
      */
     private static final class ModelStub implements Model {
         private final ObservableList<Person> backing;
-        private final FilteredList<Person> filtered;
-        private final SortedList<Person> sorted;
+        private final ObservableList<Person> shown;
         private final UserPrefs prefs = new UserPrefs();
+        private final AddressBook addressBook = new AddressBook();
 
         /**
          * Construct stub with initial persons list.
@@ -113,8 +135,8 @@ public class ViewSessionCommandExecuteTest {
          */
         ModelStub(ObservableList<Person> initial) {
             this.backing = initial;
-            this.filtered = new FilteredList<>(backing);
-            this.sorted = new SortedList<>(filtered);
+            this.shown = FXCollections.observableArrayList(initial);
+            addressBook.setPersons(initial);
         }
 
         @Override
@@ -152,11 +174,31 @@ public class ViewSessionCommandExecuteTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void mergeAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Model beginBatch() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void commitBatch(Model batch) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             return backing.stream().anyMatch(p -> p.isSamePerson(person));
@@ -183,19 +225,40 @@ public class ViewSessionCommandExecuteTest {
             // not used here
         }
 
+        @Override
+        public List<Person> getPersonsWithSessionsOverlapping(Session session) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<SessionConflict> getSessionConflicts() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Time> getFreeSlots(DayOfWeek day, Time window, int minLength) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Predicate<Person> findPersons(NameContainsKeywordsPredicate namePredicate,
+                RoleContainsKeywordsPredicate rolePredicate, TagContainsKeywordsPredicate tagPredicate) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
-            return FXCollections.unmodifiableObservableList(sorted);
+            return FXCollections.unmodifiableObservableList(shown);
         }
 
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
-            filtered.setPredicate(predicate);
+            throw new UnsupportedOperationException();
         }
 
         @Override
-        public void sortFilteredPersonList(Comparator<Person> comparator) {
-            sorted.setComparator(comparator);
+        public void showPersonsWithSessionsOn(DayOfWeek day) {
+            shown.setAll(addressBook.getPersonsWithSessionsOn(day));
         }
 
         /**
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LENGTH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
@@ -12,6 +13,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Path;
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -21,15 +24,20 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteSessionCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.ViewSessionCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Day;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -121,9 +129,23 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_restore() throws Exception {
+        assertEquals(new RestoreCommand(), parser.parseCommand(RestoreCommand.COMMAND_WORD));
+        assertEquals(new RestoreCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand(RestoreCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Path.of("new-term.txt")),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " new-term.txt"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD) instanceof ConflictsCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
@@ -145,6 +167,41 @@ public class AddressBookParserTest {
         assertEquals(new DeleteSessionCommand(INDEX_FIRST_PERSON, day, time), command);
     }
 
+    @Test
+    public void parseCommand_freeslots() throws Exception {
+        final Day day = new Day("Mon");
+        final Time time = new Time("9am-6pm");
+        FreeSlotsCommand command = (FreeSlotsCommand) parser.parseCommand(FreeSlotsCommand.COMMAND_WORD + " "
+                + PREFIX_DAY + day.getValue() + " " + PREFIX_LENGTH + "90 " + PREFIX_TIME + time.getValue());
+        assertEquals(new FreeSlotsCommand(day, 90, time), command);
+    }
+
+    @Test
+    public void parseCommand_viewSessionAliases() throws Exception {
+        ViewSessionCommand expected = new ViewSessionCommand(DayOfWeek.TUESDAY);
+        for (String word : List.of(ViewSessionCommand.COMMAND_WORD, ViewSessionCommand.COMMAND_WORD_LOWER,
+                "/" + ViewSessionCommand.COMMAND_WORD, "/" + ViewSessionCommand.COMMAND_WORD_LOWER)) {
+            assertEquals(expected, parser.parseCommand(word + " " + PREFIX_DAY + "Tuesday"));
+        }
+    }
+
+    @Test
+    public void parseCommand_commandWordFollowedByTab() throws Exception {
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand("  " + DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_registeredCommand() throws Exception {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(args -> new ListCommand(), "ls");
+        AddressBookParser customParser = new AddressBookParser(registry);
+
+        assertTrue(customParser.parseCommand("ls") instanceof ListCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> customParser.parseCommand(
+                ListCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
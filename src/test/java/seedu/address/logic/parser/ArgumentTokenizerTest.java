@@ -136,6 +136,32 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesStartingAlike_longestFound() {
+        Prefix time = new Prefix("ti/");
+        Prefix tag = new Prefix("t/");
+        Prefix tagAndTime = new Prefix("t/ti/");
+        String argsString = "preamble t/ti/ both ti/9am t/math";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, tag, time, tagAndTime);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, tagAndTime, "both");
+        assertArgumentPresent(argMultimap, time, "9am");
+        assertArgumentPresent(argMultimap, tag, "math");
+
+        // The same prefixes given in another order are found the same way
+        argMultimap = ArgumentTokenizer.tokenize(argsString, tagAndTime, time, tag);
+        assertArgumentPresent(argMultimap, tagAndTime, "both");
+        assertArgumentPresent(argMultimap, tag, "math");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notFound() {
+        String argsString = "preamble\tp/not found\n p/found\t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble\tp/not found");
+        assertArgumentPresent(argMultimap, pSlash, "found");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ViewSessionCommand;
+
+public class CommandRegistryTest {
+
+    private final Parser<ListCommand> listParser = args -> new ListCommand();
+
+    @Test
+    public void register_commandWordAndAliases_allMapToParser() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(listParser, "list", "ls");
+
+        assertSame(listParser, registry.getParser("list").get());
+        assertSame(listParser, registry.getParser("ls").get());
+        assertEquals(Optional.empty(), registry.getParser("LIST"));
+    }
+
+    @Test
+    public void register_wordTaken_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(listParser, "list");
+        Parser<ClearCommand> clearParser = args -> new ClearCommand();
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register(clearParser, "clear", "list"));
+        // Nothing of a failed registration is kept
+        assertEquals(Optional.empty(), registry.getParser("clear"));
+        assertSame(listParser, registry.getParser("list").get());
+    }
+
+    @Test
+    public void register_invalidWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.register(listParser, ""));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(listParser, "list", "li st"));
+        assertThrows(NullPointerException.class, () -> registry.register(null, "list"));
+    }
+
+    @Test
+    public void withBuiltInCommands_viewSessionAliases_shareOneParser() {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        Parser<? extends Command> parser = registry.getParser(ViewSessionCommand.COMMAND_WORD).get();
+        assertTrue(parser instanceof ViewSessionCommandParser);
+        assertSame(parser, registry.getParser(ViewSessionCommand.COMMAND_WORD_LOWER).get());
+        assertSame(parser, registry.getParser("/" + ViewSessionCommand.COMMAND_WORD).get());
+        assertSame(parser, registry.getParser("/" + ViewSessionCommand.COMMAND_WORD_LOWER).get());
+    }
+}
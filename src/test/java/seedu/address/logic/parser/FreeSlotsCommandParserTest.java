@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LENGTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+public class FreeSlotsCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE);
+
+    private FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no day specified
+        assertParseFailure(parser, " " + PREFIX_LENGTH + "90", MESSAGE_INVALID_FORMAT);
+
+        // no length specified
+        assertParseFailure(parser, " " + PREFIX_DAY + "Mon", MESSAGE_INVALID_FORMAT);
+
+        // preamble given
+        assertParseFailure(parser, "1 " + PREFIX_DAY + "Mon " + PREFIX_LENGTH + "90", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " " + PREFIX_DAY + "Funday " + PREFIX_LENGTH + "90", Day.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_DAY + "Mon " + PREFIX_LENGTH + "0", ParserUtil.MESSAGE_INVALID_LENGTH);
+        assertParseFailure(parser, " " + PREFIX_DAY + "Mon " + PREFIX_LENGTH + "1441",
+                ParserUtil.MESSAGE_INVALID_LENGTH);
+        assertParseFailure(parser, " " + PREFIX_DAY + "Mon " + PREFIX_LENGTH + "90 " + PREFIX_TIME + "6pm-9am",
+                Time.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, " " + PREFIX_DAY + "Mon " + PREFIX_DAY + "Tue " + PREFIX_LENGTH + "90",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_DAY));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " " + PREFIX_DAY + "Mon " + PREFIX_LENGTH + "90 " + PREFIX_TIME + "9am-6pm",
+                new FreeSlotsCommand(new Day("Mon"), 90, new Time("9am-6pm")));
+    }
+
+    @Test
+    public void parse_noWorkingHours_searchesWholeDay() {
+        assertParseSuccess(parser, " " + PREFIX_DAY + "Monday " + PREFIX_LENGTH + " 45 ",
+                new FreeSlotsCommand(new Day("Mon"), 45, FreeSlotsCommand.DEFAULT_WORKING_HOURS));
+    }
+}
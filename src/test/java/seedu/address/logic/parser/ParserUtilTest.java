@@ -59,6 +59,19 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseLength_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseLength("90 minutes"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseLength("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseLength("1441"));
+    }
+
+    @Test
+    public void parseLength_validInput_success() throws Exception {
+        assertEquals(90, ParserUtil.parseLength("90"));
+        assertEquals(24 * 60, ParserUtil.parseLength("  1440  "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
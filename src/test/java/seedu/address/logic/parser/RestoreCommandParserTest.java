@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RestoreCommand;
+
+public class RestoreCommandParserTest {
+
+    private RestoreCommandParser parser = new RestoreCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListingRestoreCommand() {
+        assertParseSuccess(parser, "   ", new RestoreCommand());
+    }
+
+    @Test
+    public void parse_validArgs_returnsRestoreCommand() {
+        assertParseSuccess(parser, " 2 ", new RestoreCommand(INDEX_SECOND_PERSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "0", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SUBJECT;
@@ -55,6 +56,19 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void mergeData_samePersons_versionUnchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        long version = addressBook.getVersion();
+        addressBook.mergeData(getTypicalAddressBook());
+        assertEquals(version, addressBook.getVersion());
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePerson(ALICE);
+        addressBook.mergeData(changed);
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
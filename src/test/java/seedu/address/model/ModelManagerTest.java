@@ -1,13 +1,30 @@
 package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+import seedu.address.testutil.StudentBuilder;
 
 /**
  * Tests for {@link ModelManager} value semantics.
@@ -51,4 +68,112 @@ public class ModelManagerTest {
         assertEquals(p.getGuiSettings(), m.getGuiSettings());
         assertEquals(p.getAddressBookFilePath(), m.getAddressBookFilePath());
     }
+
+    /**
+     * Sessions of a day are shown in order of start, follow later changes, and give way to the next filter.
+     */
+    @Test
+    public void showPersonsWithSessionsOn_personAdded_shownInOrder() {
+        Student late = new StudentBuilder().withName("Late").withSessions(monday("3pm-4pm")).build();
+        Student early = new StudentBuilder().withName("Early").withSessions(monday("9am-10am")).build();
+        Student none = new StudentBuilder().withName("None").build();
+        AddressBook ab = new AddressBook();
+        ab.setPersons(List.of(late, none));
+        ModelManager m = new ModelManager(ab, new UserPrefs());
+
+        m.showPersonsWithSessionsOn(DayOfWeek.MONDAY);
+        assertEquals(List.of(late), m.getFilteredPersonList());
+        m.addPerson(early);
+        assertEquals(List.of(early, late), m.getFilteredPersonList());
+
+        m.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(late, none, early), m.getFilteredPersonList());
+    }
+
+    /**
+     * While sessions are shown, only the persons with a session on the day shown are placed or taken out, and the
+     * same list is handed out throughout.
+     */
+    @Test
+    public void showPersonsWithSessionsOn_personsEdited_onlySessionsOfDayChanged() {
+        Student late = new StudentBuilder().withName("Late").withSessions(monday("3pm-4pm")).build();
+        Student early = new StudentBuilder().withName("Early").withSessions(monday("9am-10am")).build();
+        Student none = new StudentBuilder().withName("None").build();
+        AddressBook ab = new AddressBook();
+        ab.setPersons(List.of(late, none, early));
+        ModelManager m = new ModelManager(ab, new UserPrefs());
+        m.showPersonsWithSessionsOn(DayOfWeek.MONDAY);
+        assertSame(m.getFilteredPersonList(), m.getFilteredPersonList());
+
+        List<Person> changed = new ArrayList<>();
+        ListChangeListener<Person> listener = change -> {
+            while (change.next()) {
+                changed.addAll(change.getRemoved());
+                changed.addAll(change.getAddedSubList());
+            }
+        };
+        m.getFilteredPersonList().addListener(listener);
+        m.setPerson(none, new StudentBuilder(none).withRemark("Prefers mornings").build());
+        assertEquals(List.of(), changed);
+
+        Student earliest = new StudentBuilder(late).withSessions(monday("8am-9am")).build();
+        m.setPerson(late, earliest);
+        assertEquals(List.of(late, earliest), changed);
+        assertEquals(List.of(earliest, early), m.getFilteredPersonList());
+    }
+
+    /**
+     * Changes made in a batch reach the model only when committed, and only the persons the batch changed are
+     * replaced. A filter chosen in the batch is not taken on, so every person is shown.
+     */
+    @Test
+    public void commitBatch_changesMadeInBatch_takenOnAtCommit() {
+        ModelManager m = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> personsBefore = List.copyOf(m.getAddressBook().getPersonList());
+        Model batch = m.beginBatch();
+        batch.addPerson(HOON);
+        batch.updateFilteredPersonList(person -> person.isSamePerson(HOON));
+
+        assertFalse(m.hasPerson(HOON));
+        assertEquals(getTypicalPersons().size(), m.getFilteredPersonList().size());
+
+        m.commitBatch(batch);
+        assertTrue(m.hasPerson(HOON));
+        List<Person> personsAfter = m.getAddressBook().getPersonList();
+        for (int i = 0; i < personsBefore.size(); i++) {
+            assertSame(personsBefore.get(i), personsAfter.get(i));
+        }
+        assertEquals(personsAfter, m.getFilteredPersonList());
+    }
+
+    /**
+     * A batch that does not choose which persons to show leaves the filter of the model in place.
+     */
+    @Test
+    public void commitBatch_viewNotChosenInBatch_filterKept() {
+        ModelManager m = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        m.updateFilteredPersonList(person -> person.isSamePerson(HOON));
+        Model batch = m.beginBatch();
+        batch.addPerson(HOON);
+
+        m.commitBatch(batch);
+        assertEquals(List.of(HOON), m.getFilteredPersonList());
+    }
+
+    /**
+     * A batch that changes nothing leaves the address book, and its version, as they were.
+     */
+    @Test
+    public void commitBatch_nothingChanged_versionUnchanged() {
+        ModelManager m = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        long version = m.getAddressBookVersion();
+        m.commitBatch(m.beginBatch());
+        assertEquals(version, m.getAddressBookVersion());
+
+        assertThrows(IllegalArgumentException.class, () -> m.commitBatch(new ModelManager()));
+    }
+
+    private static Session monday(String time) {
+        return new Session(new Day("Mon"), new Time(time));
+    }
 }
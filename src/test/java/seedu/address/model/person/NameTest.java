@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -60,4 +61,16 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_namesDifferingOnlyInCase_sameHashCode() {
+        assertTrue(new Name("Valid Name").equals(new Name("valid NAME")));
+        assertEquals(new Name("Valid Name").hashCode(), new Name("valid NAME").hashCode());
+
+        // characters that are equal ignoring case only once upper-cased, such as the dotted and dotless i
+        assertTrue(new Name("Ilkay").equals(new Name("ılkay")));
+        assertEquals(new Name("Ilkay").hashCode(), new Name("ılkay").hashCode());
+        assertTrue(new Name("İpek").equals(new Name("ipek")));
+        assertEquals(new Name("İpek").hashCode(), new Name("ipek").hashCode());
+    }
 }
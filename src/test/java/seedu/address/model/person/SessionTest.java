@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+
+import org.junit.jupiter.api.Test;
+
+public class SessionTest {
+
+    private final Session mondayAfternoon = new Session(new Day("Mon"), new Time("3pm-5pm"));
+
+    @Test
+    public void toCode_roundTrip_sameSession() {
+        int code = mondayAfternoon.toCode();
+        assertEquals(DayOfWeek.MONDAY, Session.dayOf(code));
+        assertEquals(15 * 60, Session.startOf(code));
+        assertEquals(17 * 60, Session.endOf(code));
+        assertEquals(mondayAfternoon, Session.fromCode(code));
+
+        Session sundayNight = new Session(new Day("Sunday"), new Time("10:30pm-11:59pm"));
+        assertEquals(sundayNight, Session.fromCode(sundayNight.toCode()));
+    }
+
+    @Test
+    public void toCode_ordersByDayThenStart() {
+        int mondayMorning = new Session(new Day("Mon"), new Time("9am-10am")).toCode();
+        int tuesdayMorning = new Session(new Day("Tue"), new Time("8am-9am")).toCode();
+        assertTrue(mondayMorning < mondayAfternoon.toCode());
+        assertTrue(mondayAfternoon.toCode() < tuesdayMorning);
+    }
+
+    @Test
+    public void isOverlap() {
+        // overlapping times on the same day -> returns true
+        assertTrue(mondayAfternoon.isOverlap(new Session(new Day("Mon"), new Time("4pm-6pm"))));
+
+        // touching times -> returns false
+        assertFalse(mondayAfternoon.isOverlap(new Session(new Day("Mon"), new Time("5pm-6pm"))));
+
+        // same time on a different day -> returns false
+        assertFalse(mondayAfternoon.isOverlap(new Session(new Day("Tue"), new Time("3pm-5pm"))));
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(mondayAfternoon.equals(new Session(new Day("Monday"), new Time("3:00pm-5:00pm"))));
+
+        // same object -> returns true
+        assertTrue(mondayAfternoon.equals(mondayAfternoon));
+
+        // null -> returns false
+        assertFalse(mondayAfternoon.equals(null));
+
+        // different values -> returns false
+        assertFalse(mondayAfternoon.equals(new Session(new Day("Mon"), new Time("3pm-6pm"))));
+        assertFalse(mondayAfternoon.equals(new Session(new Day("Tue"), new Time("3pm-5pm"))));
+    }
+}
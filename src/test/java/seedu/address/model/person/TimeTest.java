@@ -83,4 +83,20 @@ public class TimeTest {
         Time time = new Time("10am-12pm");
         assertTrue(time.toString().equals("10am-12pm"));
     }
+
+    @Test
+    public void equals_sameMinutesWrittenDifferently_returnsTrue() {
+        Time time = new Time("3pm-5pm");
+        assertTrue(time.equals(new Time("3:00PM-5:00pm")));
+        assertTrue(time.hashCode() == new Time("3:00PM-5:00pm").hashCode());
+    }
+
+    @Test
+    public void of_minutes_writtenInShortestForm() {
+        assertTrue(Time.of(15 * 60, 17 * 60 + 30).toString().equals("3pm-5:30pm"));
+        assertTrue(Time.of(0, 12 * 60).toString().equals("12am-12pm"));
+        assertTrue(Time.of(9 * 60 + 5, 23 * 60 + 59).equals(new Time("9:05am-11:59pm")));
+        assertTrue(Time.of(9 * 60 + 5, 23 * 60 + 59).toString().equals("9:05am-11:59pm"));
+        assertThrows(IllegalArgumentException.class, () -> Time.of(17 * 60, 15 * 60));
+    }
 }
@@ -2,8 +2,11 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_CHARLES;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SUBJECT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -11,14 +14,20 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CHARLES;
 import static seedu.address.testutil.TypicalPersons.JAMES;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.ParentBuilder;
 import seedu.address.testutil.StudentBuilder;
 
 public class UniquePersonListTest {
@@ -49,6 +58,19 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithNameInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceInUpperCase = new StudentBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(aliceInUpperCase));
+    }
+
+    @Test
+    public void contains_parentWithSameNameAsStudent_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        assertFalse(uniquePersonList.contains(new Parent(ALICE.getName())));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -104,6 +126,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -174,6 +206,94 @@ public class UniquePersonListTest {
         assertTrue(CHARLES.hasChildName(JAMES.getName()));
     }
 
+    @Test
+    public void resolveAllParentLinks_studentBeforeParent_allStudentsAndParentsUpdated() {
+        uniquePersonList.setPersons(Arrays.asList(JAMES, ALICE, CHARLES));
+        uniquePersonList.resolveAllParentLinks();
+        assertTrue(CHARLES.hasChild(JAMES));
+        assertTrue(JAMES.hasLinkedParent());
+        assertFalse(CHARLES.hasChild(ALICE));
+    }
+
+    @Test
+    public void add_studentWithParentInList_studentLinked() {
+        Parent parent = new ParentBuilder(CHARLES).build();
+        Student student = new StudentBuilder(JAMES).build();
+        uniquePersonList.add(parent);
+        uniquePersonList.add(student);
+        assertTrue(parent.hasChild(student));
+        assertTrue(student.hasLinkedParent());
+    }
+
+    @Test
+    public void add_parentAfterItsStudents_studentsLinked() {
+        Parent parent = new ParentBuilder(CHARLES).build();
+        Student student = new StudentBuilder(JAMES).build();
+        uniquePersonList.add(student);
+        assertFalse(student.hasLinkedParent());
+
+        uniquePersonList.add(parent);
+        assertTrue(parent.hasChild(student));
+        assertTrue(student.hasLinkedParent());
+    }
+
+    @Test
+    public void setPerson_parentRenamed_childrenMovedToEditedParent() {
+        Parent parent = new ParentBuilder(CHARLES).build();
+        Student firstChild = new StudentBuilder(JAMES).build();
+        Student secondChild = new StudentBuilder(ALICE).withParentName(VALID_NAME_CHARLES).build();
+        uniquePersonList.setPersons(Arrays.asList(parent, firstChild, secondChild));
+        uniquePersonList.resolveAllParentLinks();
+
+        Parent editedParent = new ParentBuilder(CHARLES).withName(VALID_NAME_BOB).build();
+        uniquePersonList.setPerson(parent, editedParent);
+        Student renamedFirstChild = (Student) uniquePersonList.asUnmodifiableObservableList().get(1);
+        Student renamedSecondChild = (Student) uniquePersonList.asUnmodifiableObservableList().get(2);
+        assertTrue(editedParent.hasChild(renamedFirstChild));
+        assertTrue(editedParent.hasChild(renamedSecondChild));
+        assertEquals(editedParent.getName(), renamedFirstChild.getParentName());
+        assertEquals(editedParent.getName(), renamedSecondChild.getParentName());
+
+        // The children are replaced by renamed copies, leaving the persons that were in the list unchanged
+        assertEquals(VALID_NAME_CHARLES, firstChild.getParentName().fullName);
+        assertEquals(VALID_NAME_CHARLES, secondChild.getParentName().fullName);
+
+        // Links keep following the parent after the rename
+        uniquePersonList.remove(renamedSecondChild);
+        assertFalse(editedParent.hasChild(renamedSecondChild));
+        assertTrue(editedParent.hasChild(renamedFirstChild));
+    }
+
+    @Test
+    public void setPerson_studentChangesParent_linkMoved() {
+        Parent oldParent = new ParentBuilder(CHARLES).build();
+        Parent newParent = new ParentBuilder(CHARLES).withName(VALID_NAME_BOB).build();
+        Student student = new StudentBuilder(JAMES).build();
+        uniquePersonList.setPersons(Arrays.asList(oldParent, newParent, student));
+        uniquePersonList.resolveAllParentLinks();
+
+        Student editedStudent = new StudentBuilder(JAMES).withParentName(VALID_NAME_BOB).build();
+        uniquePersonList.setPerson(student, editedStudent);
+        assertFalse(oldParent.hasChild(student));
+        assertTrue(newParent.hasChild(editedStudent));
+    }
+
+    @Test
+    public void remove_parent_studentsRelinkedWhenParentAddedBack() {
+        Parent parent = new ParentBuilder(CHARLES).build();
+        Student student = new StudentBuilder(JAMES).build();
+        uniquePersonList.add(parent);
+        uniquePersonList.add(student);
+
+        uniquePersonList.remove(parent);
+        assertFalse(student.hasLinkedParent());
+        assertEquals(parent.getName(), student.getParentName());
+
+        Parent addedBack = new ParentBuilder(CHARLES).build();
+        uniquePersonList.add(addedBack);
+        assertTrue(addedBack.hasChild(student));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -190,6 +310,7 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -219,6 +340,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -227,6 +350,185 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_listUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, CHARLES, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void mergePersons_addsEditsAndRemoves_unchangedPersonsKept() {
+        Student alice = new StudentBuilder(ALICE).build();
+        Student bob = new StudentBuilder(BOB).build();
+        Parent charles = new ParentBuilder(CHARLES).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob, charles));
+
+        Student editedBob = new StudentBuilder(BOB).withAddress(VALID_ADDRESS_BOB + " Extension").build();
+        Student james = new StudentBuilder(JAMES).build();
+        uniquePersonList.mergePersons(Arrays.asList(new StudentBuilder(ALICE).build(), james, editedBob));
+
+        List<Person> merged = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(Arrays.asList(alice, editedBob, james), merged);
+        assertSame(alice, merged.get(0));
+        assertSame(editedBob, merged.get(1));
+        assertFalse(uniquePersonList.contains(charles));
+    }
+
+    @Test
+    public void mergePersons_fieldsNotComparedByEquals_personReplaced() {
+        Student alice = new StudentBuilder(ALICE).build();
+        uniquePersonList.add(alice);
+
+        Student retagged = new StudentBuilder(ALICE).withTags("science").build();
+        uniquePersonList.mergePersons(List.of(retagged));
+        assertSame(retagged, uniquePersonList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void mergePersons_parentAndStudentChanged_linkedAfresh() {
+        Parent charles = new ParentBuilder(CHARLES).build();
+        Student james = new StudentBuilder(JAMES).build();
+        uniquePersonList.setPersons(Arrays.asList(charles, james));
+        uniquePersonList.resolveAllParentLinks();
+
+        // The persons merged in are linked to each other, as when read from a data file
+        Parent editedCharles = new ParentBuilder(CHARLES).withAddress(VALID_ADDRESS_BOB).build();
+        Student jamesInFile = new StudentBuilder(JAMES).build();
+        editedCharles.addChild(jamesInFile);
+        uniquePersonList.mergePersons(Arrays.asList(editedCharles, jamesInFile));
+
+        assertSame(james, uniquePersonList.asUnmodifiableObservableList().get(1));
+        assertTrue(editedCharles.hasChild(james));
+        assertFalse(editedCharles.getChildren().stream().anyMatch(child -> child == jamesInFile));
+        assertTrue(james.hasLinkedParent());
+    }
+
+    @Test
+    public void mergePersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.mergePersons(Arrays.asList(ALICE, ALICE)));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void replaceChangedPersons_middlePersonChanged_onlyThatPersonReplaced() {
+        Student alice = new StudentBuilder(ALICE).build();
+        Student bob = new StudentBuilder(BOB).build();
+        Parent charles = new ParentBuilder(CHARLES).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob, charles));
+
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        ListChangeListener<Person> listener = change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        };
+        uniquePersonList.asUnmodifiableObservableList().addListener(listener);
+        Student editedBob = new StudentBuilder(BOB).withAddress(VALID_ADDRESS_BOB + " Extension").build();
+        Student james = new StudentBuilder(JAMES).build();
+        uniquePersonList.replaceChangedPersons(Arrays.asList(alice, editedBob, james, charles));
+
+        assertEquals(List.of(bob), removed);
+        assertEquals(List.of(editedBob, james), added);
+        assertEquals(Arrays.asList(alice, editedBob, james, charles), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(charles.hasChild(james));
+    }
+
+    @Test
+    public void replaceChangedPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.replaceChangedPersons(Arrays.asList(ALICE, ALICE)));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void find_nameRoleAndTagKeywords_matchesIntersection() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CHARLES);
+        Predicate<Person> predicate = uniquePersonList.find(
+                new NameContainsKeywordsPredicate(Arrays.asList("alice", "BOB", "charles")),
+                new RoleContainsKeywordsPredicate(Collections.singletonList("student")),
+                new TagContainsKeywordsPredicate(Collections.singletonList("science")));
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(BOB));
+        assertFalse(predicate.test(CHARLES));
+    }
+
+    @Test
+    public void find_multipleTagKeywords_matchesAnyTag() {
+        Student physicsStudent = new StudentBuilder().withName("Hoon Meier").withTags("physics").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(physicsStudent);
+        uniquePersonList.add(CHARLES);
+        Predicate<Person> predicate = uniquePersonList.find(
+                new NameContainsKeywordsPredicate(Collections.emptyList()),
+                new RoleContainsKeywordsPredicate(Collections.singletonList("student")),
+                new TagContainsKeywordsPredicate(Arrays.asList("math", "Physics", "chemistry")));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(physicsStudent));
+        assertFalse(predicate.test(CHARLES));
+
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.find(new NameContainsKeywordsPredicate(Collections.emptyList()),
+                new RoleContainsKeywordsPredicate(Collections.emptyList()),
+                new TagContainsKeywordsPredicate(Collections.singletonList("math"))).test(physicsStudent));
+    }
+
+    @Test
+    public void find_turkishDefaultLocale_matchesSameAsKeywordPredicate() {
+        Student ivan = new StudentBuilder().withName("Ivan Ilyich").build();
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(List.of("ivan"));
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            uniquePersonList.add(ivan);
+            Predicate<Person> predicate = uniquePersonList.find(namePredicate,
+                    new RoleContainsKeywordsPredicate(Collections.emptyList()),
+                    new TagContainsKeywordsPredicate(Collections.emptyList()));
+            assertTrue(namePredicate.test(ivan));
+            assertTrue(predicate.test(ivan));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void find_slotReusedAfterRemove_newPersonTestedAgainstKeywords() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> predicate = uniquePersonList.find(
+                new NameContainsKeywordsPredicate(Collections.singletonList("alice")),
+                new RoleContainsKeywordsPredicate(Collections.emptyList()),
+                new TagContainsKeywordsPredicate(Collections.emptyList()));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        assertFalse(predicate.test(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(predicate.test(ALICE));
+    }
+
+    @Test
+    public void setPerson_listenerOfList_seesScheduleAlreadyUpdated() {
+        Student student = new StudentBuilder().withName("Alex")
+                .withSessions(new Session(new Day("Mon"), new Time("1pm-2pm"))).build();
+        Student moved = new StudentBuilder(student)
+                .withSessions(new Session(new Day("Tue"), new Time("1pm-2pm"))).build();
+        uniquePersonList.add(student);
+
+        List<List<Person>> seenOnTuesday = new ArrayList<>();
+        ListChangeListener<Person> listener = change ->
+                seenOnTuesday.add(uniquePersonList.getPersonsWithSessionsOn(DayOfWeek.TUESDAY));
+        uniquePersonList.asUnmodifiableObservableList().addListener(listener);
+        uniquePersonList.setPerson(student, moved);
+        assertEquals(List.of(List.of(moved)), seenOnTuesday);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
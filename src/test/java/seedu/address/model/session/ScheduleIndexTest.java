@@ -0,0 +1,118 @@
+package seedu.address.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * ScheduleIndex bucketing and ordering.
+ */
+public class ScheduleIndexTest {
+    private final ScheduleIndex scheduleIndex = new ScheduleIndex();
+
+    private final Student alex = new StudentBuilder().withName("Alex")
+            .withSessions(session("Mon", "5pm-6pm"), session("Monday", "12pm-1pm"), session("Tue", "9am-10am"))
+            .build();
+    private final Student bernice = new StudentBuilder().withName("Bernice")
+            .withSessions(session("Mon", "1pm-2pm")).build();
+    private final Student charlie = new StudentBuilder().withName("charlie")
+            .withSessions(session("Mon", "1pm-3pm")).build();
+
+    /**
+     * Day bucket lists each person once, earliest start first, then by name.
+     */
+    @Test
+    public void getPersonsOn_sessionsOnDay_orderedByEarliestStartThenName() {
+        scheduleIndex.add(charlie);
+        scheduleIndex.add(bernice);
+        scheduleIndex.add(alex);
+        assertEquals(Arrays.asList(alex, bernice, charlie), scheduleIndex.getPersonsOn(DayOfWeek.MONDAY));
+        assertEquals(Arrays.asList(alex), scheduleIndex.getPersonsOn(DayOfWeek.TUESDAY));
+        assertTrue(scheduleIndex.getPersonsOn(DayOfWeek.SUNDAY).isEmpty());
+    }
+
+    /**
+     * Removing a person drops every entry of it, on every day.
+     */
+    @Test
+    public void remove_person_entriesDropped() {
+        scheduleIndex.add(alex);
+        scheduleIndex.add(bernice);
+        scheduleIndex.remove(alex);
+        assertEquals(Arrays.asList(bernice), scheduleIndex.getPersonsOn(DayOfWeek.MONDAY));
+        assertTrue(scheduleIndex.getPersonsOn(DayOfWeek.TUESDAY).isEmpty());
+    }
+
+    /**
+     * Overlap query finds every person with a session running into the given one, and no touching ones.
+     */
+    @Test
+    public void getPersonsOverlapping_session_returnsOverlappingPersons() {
+        scheduleIndex.add(alex);
+        scheduleIndex.add(bernice);
+        scheduleIndex.add(charlie);
+        assertEquals(Arrays.asList(bernice, charlie),
+                scheduleIndex.getPersonsOverlapping(session("Mon", "1:30pm-2:30pm")));
+        assertEquals(Arrays.asList(charlie), scheduleIndex.getPersonsOverlapping(session("Mon", "2pm-5pm")));
+        assertTrue(scheduleIndex.getPersonsOverlapping(session("Tue", "10am-11am")).isEmpty());
+    }
+
+    /**
+     * Sweep reports each overlapping pair of sessions of different persons once.
+     */
+    @Test
+    public void getConflicts_overlappingSessions_everyPairOnce() {
+        scheduleIndex.add(alex);
+        scheduleIndex.add(bernice);
+        scheduleIndex.add(charlie);
+        List<SessionConflict> conflicts = scheduleIndex.getConflicts();
+        assertEquals(1, conflicts.size());
+        assertEquals(bernice, conflicts.get(0).first());
+        assertEquals(session("Mon", "1pm-2pm"), conflicts.get(0).firstSession());
+        assertEquals(charlie, conflicts.get(0).second());
+        assertEquals(session("Mon", "1pm-3pm"), conflicts.get(0).secondSession());
+
+        scheduleIndex.remove(charlie);
+        assertTrue(scheduleIndex.getConflicts().isEmpty());
+    }
+
+    /**
+     * Free slots are the gaps between sessions within the window, kept up to date as persons come and go.
+     */
+    @Test
+    public void getFreeSlots_sessionsOnDay_returnsGapsLongEnough() {
+        scheduleIndex.add(alex);
+        scheduleIndex.add(bernice);
+        scheduleIndex.add(charlie);
+        Time window = new Time("9am-6pm");
+        assertEquals(Arrays.asList(new Time("9am-12pm"), new Time("3pm-5pm")),
+                scheduleIndex.getFreeSlots(DayOfWeek.MONDAY, window, 60));
+        assertEquals(Arrays.asList(new Time("9am-12pm")), scheduleIndex.getFreeSlots(DayOfWeek.MONDAY, window, 150));
+        assertEquals(Arrays.asList(new Time("10am-6pm")), scheduleIndex.getFreeSlots(DayOfWeek.TUESDAY, window, 30));
+        assertEquals(Arrays.asList(window), scheduleIndex.getFreeSlots(DayOfWeek.SUNDAY, window, 30));
+
+        // bernice's 1pm-2pm lies within charlie's 1pm-3pm, so the minutes stay occupied until both are gone
+        scheduleIndex.remove(bernice);
+        assertEquals(Arrays.asList(new Time("9am-12pm"), new Time("3pm-5pm")),
+                scheduleIndex.getFreeSlots(DayOfWeek.MONDAY, window, 60));
+        scheduleIndex.remove(charlie);
+        assertEquals(Arrays.asList(new Time("9am-12pm"), new Time("1pm-5pm")),
+                scheduleIndex.getFreeSlots(DayOfWeek.MONDAY, window, 60));
+        assertTrue(scheduleIndex.getFreeSlots(DayOfWeek.MONDAY, new Time("12pm-1pm"), 1).isEmpty());
+    }
+
+    private static Session session(String day, String time) {
+        return new Session(new Day(day), new Time(time));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    private final TagDictionary tagDictionary = new TagDictionary();
+
+    @Test
+    public void idOf_nullTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagDictionary.idOf(null));
+    }
+
+    @Test
+    public void idOf_distinctTags_assignedIdsInOrder() {
+        assertEquals(0, tagDictionary.idOf(new Tag("math")));
+        assertEquals(1, tagDictionary.idOf(new Tag("physics")));
+        assertEquals(0, tagDictionary.idOf(new Tag("MATH")));
+        assertEquals(2, tagDictionary.size());
+        assertEquals(new Tag("physics"), tagDictionary.getTag(1));
+    }
+
+    @Test
+    public void lookup_tagName_caseInsensitive() {
+        tagDictionary.idOf(new Tag("math"));
+        assertEquals(0, tagDictionary.lookup("Math"));
+        assertEquals(TagDictionary.NO_ID, tagDictionary.lookup("physics"));
+    }
+
+    @Test
+    public void lookup_turkishDefaultLocale_caseInsensitive() {
+        tagDictionary.idOf(new Tag("mint"));
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals(0, tagDictionary.lookup("MINT"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void clear_idsReassignedFromZero() {
+        tagDictionary.idOf(new Tag("math"));
+        tagDictionary.idOf(new Tag("physics"));
+        tagDictionary.clear();
+        assertEquals(TagDictionary.NO_ID, tagDictionary.lookup("math"));
+        assertEquals(0, tagDictionary.idOf(new Tag("physics")));
+    }
+}
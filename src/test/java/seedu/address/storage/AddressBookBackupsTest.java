@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookBackupsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void pathOf_dataFile_folderNextToIt() {
+        assertEquals(Paths.get("data", "addressbook.backups"),
+                AddressBookBackups.pathOf(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void backUp_changes_eachVersionRestored() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        List<AddressBook> expected = new ArrayList<>();
+        backups.backUp(addressBook);
+        expected.add(new AddressBook(addressBook));
+        addressBook.addPerson(HOON);
+        backups.backUp(addressBook);
+        expected.add(new AddressBook(addressBook));
+        addressBook.removePerson(ALICE);
+        backups.backUp(addressBook);
+        expected.add(new AddressBook(addressBook));
+
+        List<Long> versions = backups.readVersions();
+        assertEquals(3, versions.size());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expected.get(i), new AddressBook(backups.read(versions.get(i)).get()));
+        }
+        // the later versions are kept as changes to the first, not as copies of it
+        assertEquals(1, countBases());
+    }
+
+    @Test
+    public void backUp_unchanged_noNewVersion() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        backups.backUp(addressBook);
+        backups.backUp(addressBook);
+        assertEquals(1, backups.readVersions().size());
+    }
+
+    @Test
+    public void backUp_manyChanges_newBasesStarted() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, 100);
+        AddressBook addressBook = getTypicalAddressBook();
+        List<AddressBook> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            if (i % 2 == 0) {
+                addressBook.addPerson(HOON);
+            } else {
+                addressBook.removePerson(HOON);
+            }
+            backups.backUp(addressBook);
+            expected.add(new AddressBook(addressBook));
+        }
+
+        List<Long> versions = backups.readVersions();
+        assertEquals(20, versions.size());
+        assertTrue(countBases() > 1);
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expected.get(i), new AddressBook(backups.read(versions.get(i)).get()));
+        }
+    }
+
+    @Test
+    public void backUp_afterRestart_newBaseWithLaterVersion() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new AddressBookBackups(testFolder, 2).backUp(addressBook);
+        addressBook.addPerson(IDA);
+        AddressBookBackups backups = new AddressBookBackups(testFolder, 2);
+        backups.backUp(addressBook);
+
+        List<Long> versions = backups.readVersions();
+        assertEquals(2, versions.size());
+        assertTrue(versions.get(0) < versions.get(1));
+        assertEquals(2, countBases());
+        assertEquals(getTypicalAddressBook(), new AddressBook(backups.read(versions.get(0)).get()));
+        assertEquals(addressBook, new AddressBook(backups.read(versions.get(1)).get()));
+    }
+
+    @Test
+    public void prune_moreChainsThanKept_oldestChainsDeleted() throws Exception {
+        // each run of the app starts a chain of its own
+        for (int i = 0; i < 3; i++) {
+            new AddressBookBackups(testFolder, 2).backUp(getTypicalAddressBook());
+        }
+        AddressBookBackups backups = new AddressBookBackups(testFolder, 2);
+        List<Long> versions = backups.readVersions();
+
+        backups.prune();
+        assertEquals(versions.subList(1, 3), backups.readVersions());
+        assertEquals(Optional.empty(), backups.read(versions.get(0)));
+        assertEquals(2, countBases());
+    }
+
+    @Test
+    public void read_versionNotKept_empty() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, 2);
+        assertEquals(Optional.empty(), backups.read(1));
+
+        backups.backUp(getTypicalAddressBook());
+        long version = backups.readVersions().get(0);
+        assertEquals(Optional.empty(), backups.read(version - 1));
+        assertEquals(Optional.empty(), backups.read(version + 1));
+    }
+
+    private long countBases() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json.gz")).count();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        JsonAddressBookReader reader = new JsonAddressBookReader(TYPICAL_PERSONS_FILE);
+        reader.read();
+        AddressBook addressBookFromFile = reader.toModelType();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+        assertEquals(0, reader.getGeneration());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        JsonAddressBookReader reader = new JsonAddressBookReader(INVALID_PERSON_FILE);
+        assertThrows(IllegalValueException.class, reader::read);
+    }
+
+    @Test
+    public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        JsonAddressBookReader reader = new JsonAddressBookReader(DUPLICATE_PERSON_FILE);
+        reader.read();
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON,
+                reader::toModelType);
+    }
+
+    @Test
+    public void read_notAnAddressBook_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("notAnAddressBook.json");
+        Files.writeString(filePath, "{\"persons\": [1]}");
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_NOT_AN_ADDRESS_BOOK, reader::read);
+
+        Files.writeString(filePath, "[]");
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_NOT_AN_ADDRESS_BOOK, reader::read);
+    }
+
+    @Test
+    public void read_unknownFieldsAndGeneration_skipsUnknownFields() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        Files.writeString(filePath, "{\"_comment\": {\"note\": [1, 2]}, \"persons\": [], \"generation\": 42}");
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        reader.read();
+        reader.applyJournal(List.of());
+        assertEquals(42, reader.getGeneration());
+        assertEquals(new AddressBook(), reader.toModelType());
+    }
+
+    @Test
+    public void read_manyPersons_orderKept() throws Exception {
+        Path filePath = testFolder.resolve("manyPersons.json");
+        Files.writeString(filePath, parentsJson(3000, -1));
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        reader.read();
+
+        List<Person> persons = reader.toModelType().getPersonList();
+        assertEquals(3000, persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(nameOf(i), persons.get(i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void read_invalidPersonsInLaterBatch_firstInvalidPersonNamed() throws Exception {
+        Path filePath = testFolder.resolve("invalidPersons.json");
+        Files.writeString(filePath, parentsJson(3000, 1500)
+                .replace("\"" + nameOf(2500) + "\"", "\"R2D2\""));
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAddressBookReader.MESSAGE_INVALID_PERSON, 1501, Phone.MESSAGE_CONSTRAINTS),
+                reader::read);
+    }
+
+    @Test
+    public void read_writtenByApp_trusted() throws Exception {
+        Path filePath = testFolder.resolve("writtenByApp.json");
+        new JsonAddressBookWriter(filePath).write(TypicalPersons.getTypicalAddressBook(), 7);
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        reader.read();
+        assertTrue(reader.isTrusted());
+        assertEquals(7, reader.getGeneration());
+        assertEquals(TypicalPersons.getTypicalAddressBook(), reader.toModelType());
+    }
+
+    @Test
+    public void read_noSchemaVersion_checkedInFull() throws Exception {
+        JsonAddressBookReader reader = new JsonAddressBookReader(TYPICAL_PERSONS_FILE);
+        reader.read();
+        assertFalse(reader.isTrusted());
+    }
+
+    @Test
+    public void read_editedAfterWriting_checkedInFull() throws Exception {
+        Path filePath = testFolder.resolve("edited.json");
+        new JsonAddressBookWriter(filePath).write(TypicalPersons.getTypicalAddressBook(), 0);
+        Files.writeString(filePath, Files.readString(filePath).replace("\"Alice Pauline\"", "\"Alicia Pauline\""));
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        reader.read();
+        assertFalse(reader.isTrusted());
+        assertEquals("Alicia Pauline", reader.getPersons().get(0).getName().fullName);
+    }
+
+    @Test
+    public void read_invalidEditAfterWriting_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("invalidEdit.json");
+        new JsonAddressBookWriter(filePath).write(TypicalPersons.getTypicalAddressBook(), 0);
+        Files.writeString(filePath, Files.readString(filePath).replace("\"94351253\"", "\"123\""));
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAddressBookReader.MESSAGE_INVALID_PERSON, 1, Phone.MESSAGE_CONSTRAINTS),
+                reader::read);
+    }
+
+    @Test
+    public void read_unconvertibleEditAfterWriting_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("unconvertibleEdit.json");
+        new JsonAddressBookWriter(filePath).write(TypicalPersons.getTypicalAddressBook(), 0);
+        Files.writeString(filePath, Files.readString(filePath).replace("\"12pm-3pm\"", "\"noon\""));
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        assertThrows(IllegalValueException.class, reader::read);
+    }
+
+    /**
+     * Returns the data file of {@code count} parents, of which the one at {@code invalidPhoneIndex} has an invalid
+     * phone.
+     */
+    private static String parentsJson(int count, int invalidPhoneIndex) {
+        StringBuilder json = new StringBuilder("{\"persons\": [");
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ", ")
+                    .append("{\"name\": \"").append(nameOf(i))
+                    .append("\", \"phone\": \"").append(i == invalidPhoneIndex ? "123" : "91234567")
+                    .append("\", \"address\": \"Blk 30 Geylang Street 29, #06-40\"")
+                    .append(", \"role\": \"parent\", \"remark\": \"\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Returns a distinct valid name for each {@code number}, as names may not contain digits.
+     */
+    private static String nameOf(int number) {
+        StringBuilder name = new StringBuilder("Parent ");
+        int remaining = number;
+        do {
+            name.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return name.toString();
+    }
+}
@@ -2,22 +2,29 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +93,134 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_journaled_changesAppendedAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("JournaledAddressBook.json");
+        Path journalPath = JsonAddressBookJournal.pathOf(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+        jsonAddressBookStorage.saveAddressBook(original);
+        String dataFile = Files.readString(filePath);
+
+        // Add, edit and remove a person, then change a parent name
+        Student hoon = new StudentBuilder(HOON).build();
+        original.addPerson(hoon);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.setPerson(BENSON, new StudentBuilder(BENSON).withPhone("91234567").build());
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.setPerson(hoon, new StudentBuilder(hoon).withParentName(IDA.getName().fullName).build());
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // Saving without changes appends nothing
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(dataFile, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath, true).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(IDA.getName(), ((Student) readBack.getPersonList().get(6)).getParentName());
+    }
+
+    @Test
+    public void rememberMerged_changeAfterMerge_onlyChangedPersonJournaled() throws Exception {
+        Path filePath = testFolder.resolve("MergedAddressBook.json");
+        Path journalPath = JsonAddressBookJournal.pathOf(filePath);
+        AddressBook model = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+        jsonAddressBookStorage.saveAddressBook(model);
+
+        // The data file is changed elsewhere, then read and merged into the model, which keeps its own instances
+        AddressBook changedElsewhere = getTypicalAddressBook();
+        changedElsewhere.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedElsewhere);
+        ReadOnlyAddressBook read = jsonAddressBookStorage.readAddressBook().get();
+        model.mergeData(read);
+        jsonAddressBookStorage.rememberMerged(read, model);
+
+        model.setPerson(BENSON, new StudentBuilder(BENSON).withPhone("91234567").build());
+        jsonAddressBookStorage.saveAddressBook(model);
+        String record = Files.readString(journalPath);
+        assertTrue(record.contains("91234567"));
+        assertFalse(record.contains(ALICE.getName().fullName));
+        assertEquals(model, new AddressBook(new JsonAddressBookStorage(filePath, true).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_dataFileRewritten() throws Exception {
+        Path filePath = testFolder.resolve("CompactedAddressBook.json");
+        Path journalPath = JsonAddressBookJournal.pathOf(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true, 2, Long.MAX_VALUE);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addPerson(IDA);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalCutShort_completeRecordsReplayed() throws Exception {
+        Path filePath = testFolder.resolve("CutShortAddressBook.json");
+        Path journalPath = JsonAddressBookJournal.pathOf(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        Files.writeString(journalPath, "{\"generation\":", StandardOpenOption.APPEND);
+
+        jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // Nothing can follow the cut short record, so the next save rewrites the data file
+        original.addPerson(IDA);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderDataFile_ignored() throws Exception {
+        Path filePath = testFolder.resolve("StaleJournalAddressBook.json");
+        Path journalPath = JsonAddressBookJournal.pathOf(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        String staleJournal = Files.readString(journalPath);
+
+        // Rewriting the data file deletes the journal; one left behind anyway must not be replayed
+        jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        Files.writeString(journalPath, staleJournal);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_gzipDataFile_compressedAndDetected() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertTrue(Files.size(filePath) < FileUtil.readFromFile(filePath).length());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // A compressed data file is read whatever its name, so that it can be renamed to turn compression off
+        Path plainPath = testFolder.resolve("TempAddressBook.json");
+        Files.move(filePath, plainPath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(plainPath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,218 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    // Small enough that the typical address book spans several segments
+    private static final int SEGMENT_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void pathOf() {
+        assertEquals(testFolder.resolve("addressbook.segments").resolve("manifest.json"),
+                SegmentedAddressBookStorage.pathOf(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("data.segments").resolve("manifest.json"),
+                SegmentedAddressBookStorage.pathOf(testFolder.resolve("data")));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertSamePersons(original, storage.readAddressBook().get());
+
+        // Modify data, save only the changed segments, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertSamePersons(original, storage.readAddressBook().get());
+        assertSamePersons(original, createStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsSegmentRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Set<String> segmentsBefore = segmentFiles(storage);
+
+        // CARL is the first person of the second segment
+        original.setPerson(CARL, new StudentBuilder(CARL).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+        Set<String> segmentsAfter = segmentFiles(storage);
+
+        Set<String> removed = new HashSet<>(segmentsBefore);
+        removed.removeAll(segmentsAfter);
+        Set<String> added = new HashSet<>(segmentsAfter);
+        added.removeAll(segmentsBefore);
+        assertEquals(1, removed.size());
+        assertEquals(1, added.size());
+        assertSamePersons(original, createStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Set<String> segmentsBefore = segmentFiles(storage);
+
+        storage.saveAddressBook(original);
+        assertEquals(segmentsBefore, segmentFiles(storage));
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_readBackInOrder() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // Inserts at the end, removals at the start, middle and end, and an edit in place
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertSamePersons(original, createStorage().readAddressBook().get());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertSamePersons(original, createStorage().readAddressBook().get());
+
+        original.removePerson(GEORGE);
+        original.removePerson(IDA);
+        storage.saveAddressBook(original);
+        assertSamePersons(original, createStorage().readAddressBook().get());
+
+        Student editedBenson = new StudentBuilder(BENSON).withAddress("1 New Road, Singapore 123456").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+        assertSamePersons(original, createStorage().readAddressBook().get());
+
+        original.resetData(new AddressBook());
+        storage.saveAddressBook(original);
+        assertSamePersons(original, createStorage().readAddressBook().get());
+        assertTrue(segmentFiles(storage).isEmpty());
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonFile_convertedToSegments() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(jsonFilePath, SEGMENT_SIZE);
+        assertSamePersons(original, storage.readAddressBook().get());
+        assertTrue(Files.exists(storage.getAddressBookFilePath()));
+
+        // The segments are read from now on, even if the json data file changes
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(new AddressBook());
+        assertSamePersons(original, createStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_jsonPath_usesJson() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        Path exportPath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, exportPath);
+        assertSamePersons(original, new JsonAddressBookStorage(exportPath).readAddressBook().get());
+        assertSamePersons(original, storage.readAddressBook(exportPath).get());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(segmentPaths(storage).get(0));
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_segmentWithWrongSize_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        List<Path> segments = segmentPaths(storage);
+        // The last segment holds the one person left over, unlike the others
+        Files.copy(segments.get(segments.size() - 1), segments.get(0),
+                StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonInSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path segment = segmentPaths(storage).get(1);
+        Files.writeString(segment, Files.readString(segment).replace("\"Carl Kurz\"", "\"C@rl\""));
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    private SegmentedAddressBookStorage createStorage() {
+        return new SegmentedAddressBookStorage(testFolder.resolve("addressbook.json"), SEGMENT_SIZE);
+    }
+
+    /**
+     * Returns the segment files listed in the manifest of {@code storage}, in order.
+     */
+    private static List<Path> segmentPaths(SegmentedAddressBookStorage storage) throws Exception {
+        Path manifestPath = storage.getAddressBookFilePath();
+        JsonSegmentManifest manifest = JsonUtil.readJsonFile(manifestPath, JsonSegmentManifest.class).get();
+        return manifest.getSegments().stream()
+                .map(segment -> manifestPath.resolveSibling(segment.getFile()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the names of the segment files next to the manifest of {@code storage}.
+     */
+    private static Set<String> segmentFiles(SegmentedAddressBookStorage storage) throws Exception {
+        try (Stream<Path> files = Files.list(storage.getAddressBookFilePath().getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith("segment-"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static void assertSamePersons(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_CHARLES;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.CHARLES;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.ParentBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class SnapshotAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void pathOf() {
+        assertEquals(testFolder.resolve("addressbook.snapshot"),
+                SnapshotAddressBookStorage.pathOf(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("data.snapshot"),
+                SnapshotAddressBookStorage.pathOf(testFolder.resolve("data")));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(testFolder.resolve("addressbook.json"));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertSamePersons(original, storage.readAddressBook().get());
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertSamePersons(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_studentsWithParents_linkedByPosition() throws Exception {
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(testFolder.resolve("addressbook.json"));
+        Student child = new StudentBuilder(ALICE).withParentName(VALID_NAME_CHARLES).build();
+        Student otherCase = new StudentBuilder(BENSON).withParentName(VALID_NAME_CHARLES.toUpperCase()).build();
+        Student orphan = new StudentBuilder(CARL).withParentName("Nobody Here").build();
+        AddressBook original = new AddressBook();
+        // The parent comes after its children, so it is not read yet when they are
+        original.setPersons(List.of(child, otherCase, orphan, new ParentBuilder(CHARLES).build()));
+        original.linkAllParents();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertSamePersons(original, readBack);
+        Parent parent = (Parent) readBack.getPersonList().get(3);
+        for (int i = 0; i < 2; i++) {
+            Student student = (Student) readBack.getPersonList().get(i);
+            assertTrue(student.hasLinkedParent());
+            assertTrue(parent.hasChild(student));
+        }
+        assertEquals(otherCase.getParentName().fullName,
+                ((Student) readBack.getPersonList().get(1)).getParentName().fullName);
+        Student readOrphan = (Student) readBack.getPersonList().get(2);
+        assertEquals(orphan.getParentName().fullName, readOrphan.getParentName().fullName);
+        assertFalse(readOrphan.hasLinkedParent());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataLoadingException() throws Exception {
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(testFolder.resolve("addressbook.json"));
+        // A read-only address book need not check for duplicates, unlike an AddressBook
+        storage.saveAddressBook(() -> FXCollections.observableArrayList(ALICE, ALICE));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonFile_convertedToSnapshot() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(jsonFilePath);
+        assertSamePersons(original, storage.readAddressBook().get());
+        assertTrue(Files.exists(storage.getAddressBookFilePath()));
+
+        // The snapshot is read from now on, even if the json data file changes
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(new AddressBook());
+        assertSamePersons(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_jsonPath_usesJson() throws Exception {
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(testFolder.resolve("addressbook.json"));
+        Path exportPath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, exportPath);
+        assertSamePersons(original, new JsonAddressBookStorage(exportPath).readAddressBook().get());
+        assertSamePersons(original, storage.readAddressBook(exportPath).get());
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(testFolder.resolve("addressbook.json"));
+        Files.writeString(storage.getAddressBookFilePath(), "{\"persons\": []}");
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path filePath = storage.getAddressBookFilePath();
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path filePath = storage.getAddressBookFilePath();
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[7] = 99; // last byte of the version
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same persons as {@code expected}, in the same order, down to the fields
+     * that {@code Person#equals} does not compare.
+     */
+    private static void assertSamePersons(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        List<Person> expectedPersons = expected.getPersonList();
+        List<Person> actualPersons = actual.getPersonList();
+        assertEquals(expectedPersons, actualPersons);
+        for (int i = 0; i < expectedPersons.size(); i++) {
+            assertEquals(expectedPersons.get(i).toString(), actualPersons.get(i).toString());
+            assertEquals(expectedPersons.get(i).getRemark(), actualPersons.get(i).getRemark());
+            if (expectedPersons.get(i) instanceof Student student) {
+                assertArrayEquals(student.getSessionCodes(), ((Student) actualPersons.get(i)).getSessionCodes());
+            }
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +70,157 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_writeBehind_latestSnapshotWritten() throws Exception {
+        StorageManager writeBehindStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("wb")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(original);
+        original.removePerson(original.getPersonList().get(0));
+        writeBehindStorage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        // changes made after a save are not written until the next save
+        original.removePerson(original.getPersonList().get(0));
+        writeBehindStorage.flush();
+        assertEquals(expected, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindFails_failureReportedOnce() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("wb")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, failure.getMessage(), writeBehindStorage::flush);
+        writeBehindStorage.flush();
+    }
+
+    @Test
+    public void reloadChangedFile_ownWrite_ignored() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        storageManager.reloadChangedFile(reloaded::add);
+        assertTrue(reloaded.isEmpty());
+    }
+
+    @Test
+    public void reloadChangedFile_changedElsewhere_reloadedOnce() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        // Another storage of the same file stands in for a file-sync tool
+        new JsonAddressBookStorage(getTempFilePath("ab")).saveAddressBook(changed);
+
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        storageManager.reloadChangedFile(reloaded::add);
+        storageManager.reloadChangedFile(reloaded::add);
+        assertEquals(1, reloaded.size());
+        assertEquals(changed, new AddressBook(reloaded.get(0)));
+    }
+
+    @Test
+    public void isLatestReload_savedSinceReload_returnsFalse() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        new JsonAddressBookStorage(getTempFilePath("ab")).saveAddressBook(changed);
+
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        storageManager.reloadChangedFile(reloaded::add);
+        assertTrue(storageManager.isLatestReload(reloaded.get(0)));
+        assertFalse(storageManager.isLatestReload(changed));
+
+        // a command saved before the reload was merged
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertFalse(storageManager.isLatestReload(reloaded.get(0)));
+    }
+
+    @Test
+    public void isLatestReload_writeBehindSaveQueued_returnsFalse() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        JsonAddressBookStorage blockingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                try {
+                    writing.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(blockingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        new JsonAddressBookStorage(getTempFilePath("ab")).saveAddressBook(getTypicalAddressBook());
+
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        writeBehindStorage.reloadChangedFile(reloaded::add);
+        assertTrue(writeBehindStorage.isLatestReload(reloaded.get(0)));
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(writeBehindStorage.isLatestReload(reloaded.get(0)));
+        writing.countDown();
+        writeBehindStorage.flush();
+        assertFalse(writeBehindStorage.isLatestReload(reloaded.get(0)));
+    }
+
+    @Test
+    public void reloadChangedFile_invalidChange_ignored() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(getTempFilePath("ab"), "{\"persons\": [{\"name\": \"R2D2\"}]}");
+
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        storageManager.reloadChangedFile(reloaded::add);
+        assertTrue(reloaded.isEmpty());
+    }
+
+    @Test
+    public void watchAddressBookFile_changedElsewhere_listenerCalled() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        CountDownLatch reloaded = new CountDownLatch(1);
+        storageManager.watchAddressBookFile(addressBook -> reloaded.countDown());
+        try {
+            AddressBook changed = getTypicalAddressBook();
+            changed.addPerson(HOON);
+            new JsonAddressBookStorage(getTempFilePath("ab")).saveAddressBook(changed);
+            // Some platforms poll for changes every few seconds rather than being told of them
+            assertTrue(reloaded.await(30, TimeUnit.SECONDS));
+        } finally {
+            storageManager.stopWatchingAddressBookFile();
+        }
+    }
+
+    @Test
+    public void saveAddressBook_withBackups_eachSaveBackedUp() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(getTempFilePath("backups"), 2);
+        StorageManager backedUpStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true, backups);
+        AddressBook addressBook = getTypicalAddressBook();
+        backedUpStorage.saveAddressBook(addressBook);
+        backedUpStorage.flush();
+        addressBook.addPerson(HOON);
+        backedUpStorage.saveAddressBook(addressBook);
+
+        // reading the backups waits for those queued
+        List<Long> versions = backedUpStorage.readBackupVersions();
+        assertEquals(2, versions.size());
+        assertEquals(addressBook, new AddressBook(backedUpStorage.readBackup(versions.get(1)).get()));
+    }
+
+    @Test
+    public void readBackupVersions_noBackups_empty() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertTrue(storageManager.readBackupVersions().isEmpty());
+        assertTrue(storageManager.readBackup(System.currentTimeMillis()).isEmpty());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());